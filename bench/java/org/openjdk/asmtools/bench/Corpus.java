@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.bench;
+
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The class files of the running JDK image and their jasm and jcod sources. Only the classes passing the full
+ * round trip class -> jasm -> class and class -> jcod -> class are kept, so every benchmark processes the same
+ * classes and never measures error paths.
+ */
+final class Corpus {
+
+    final byte[][] classes;
+    final byte[][] jasm;
+    final byte[][] jcod;
+    final long classBytes;
+    final long jasmBytes;
+    final long jcodBytes;
+
+    private Corpus(List<byte[]> classes, List<byte[]> jasm, List<byte[]> jcod) {
+        this.classes = classes.toArray(new byte[0][]);
+        this.jasm = jasm.toArray(new byte[0][]);
+        this.jcod = jcod.toArray(new byte[0][]);
+        this.classBytes = classes.stream().mapToLong(b -> b.length).sum();
+        this.jasmBytes = jasm.stream().mapToLong(b -> b.length).sum();
+        this.jcodBytes = jcod.stream().mapToLong(b -> b.length).sum();
+    }
+
+    /**
+     * Loads the classes from the {@code jrt:/} image of the running JDK
+     *
+     * @param root  the directory in the image, e.g. /modules/java.base/java/util
+     * @param limit the maximal number of classes
+     */
+    static Corpus load(String root, int limit) {
+        ToolConfiguration jdis = ToolConfiguration.of("jdis");
+        ToolConfiguration jdec = ToolConfiguration.of("jdec");
+        ToolConfiguration jasm = ToolConfiguration.of("jasm");
+        ToolConfiguration jcoder = ToolConfiguration.of("jcoder");
+        List<byte[]> classes = new ArrayList<>();
+        List<byte[]> jasmSources = new ArrayList<>();
+        List<byte[]> jcodSources = new ArrayList<>();
+        FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+        try (Stream<Path> files = Files.walk(jrt.getPath(root))) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".class")).sorted()::iterator) {
+                if (classes.size() == limit) {
+                    break;
+                }
+                byte[] bytes = Files.readAllBytes(file);
+                byte[] jasmSource = output(jdis.run(new ByteInput(bytes)));
+                byte[] jcodSource = output(jdec.run(new ByteInput(bytes)));
+                if (jasmSource != null && jcodSource != null &&
+                        output(jasm.run(new ByteInput(jasmSource))) != null &&
+                        output(jcoder.run(new ByteInput(jcodSource))) != null) {
+                    classes.add(bytes);
+                    jasmSources.add(jasmSource);
+                    jcodSources.add(jcodSource);
+                }
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        if (classes.isEmpty()) {
+            throw new IllegalStateException("No class files found in jrt:" + root);
+        }
+        return new Corpus(classes, jasmSources, jcodSources);
+    }
+
+    /**
+     * @return the only output of the successful run, otherwise null
+     */
+    static byte[] output(ToolConfiguration.Result result) {
+        return result.status() == 0 && result.outputs().size() == 1 ? result.outputs().get(0).getBody() : null;
+    }
+
+    int size() {
+        return classes.length;
+    }
+}
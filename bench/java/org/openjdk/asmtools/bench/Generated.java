@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.bench;
+
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates the inputs of the microbenchmarks. The sizes of the inputs are the parameters of the benchmarks,
+ * so a benchmark run over several sizes shows how the measured code scales.
+ */
+public final class Generated {
+
+    private static final String BSM_DESCRIPTOR = "\"(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;" +
+            "Ljava/lang/invoke/MethodType;[Ljava/lang/Object;)Ljava/lang/invoke/CallSite;\"";
+
+    private Generated() {
+    }
+
+    /**
+     * @return the jasm source of the class {@code Wide} having one method of about the given number of instructions:
+     * arithmetic, constants and invocations of 64 distinct methods
+     */
+    public static String wideMethod(int instructions) {
+        StringBuilder sb = new StringBuilder("super public class Wide version 61:0 {\n").
+                append("  public static Method m:\"(I)I\" stack 2 locals 1 {\n");
+        for (int i = 0; i < instructions / 7; i++) {
+            sb.append("    iload_0;\n").
+                    append("    sipush ").append(i % Short.MAX_VALUE).append(";\n").
+                    append("    iadd;\n").
+                    append("    istore_0;\n").
+                    append("    iload_0;\n").
+                    append("    invokestatic Method f").append(i % 64).append(":\"(I)I\";\n").
+                    append("    istore_0;\n");
+        }
+        return sb.append("    iload_0;\n    ireturn;\n  }\n}\n").toString();
+    }
+
+    /**
+     * @return the jasm source of the class {@code Indy} having one method of the given number of distinct
+     * invokedynamic call sites, each call site has the given number of static bootstrap arguments
+     */
+    public static String invokeDynamics(int callSites, int arguments) {
+        StringBuilder sb = new StringBuilder("super public class Indy version 61:0 {\n").
+                append("  public static Method m:\"(I)I\" stack 2 locals 1 {\n");
+        for (int i = 0; i < callSites; i++) {
+            sb.append("    iload_0;\n").
+                    append("    invokedynamic InvokeDynamic REF_invokeStatic:Method Indy.bsm:").append(BSM_DESCRIPTOR).
+                    append(":site").append(i).append(":\"(I)I\" {\n");
+            for (int j = 0; j < arguments; j++) {
+                sb.append("      ").append(switch (j % 4) {
+                    case 0 -> "String \"argument " + i + ":" + j + "\"";
+                    case 1 -> "MethodType \"(I)Z\"";
+                    case 2 -> "MethodHandle REF_invokeStatic:Method Indy.target" + j + ":\"(I)Z\"";
+                    default -> "int " + j;
+                }).append(j + 1 < arguments ? ",\n" : "\n");
+            }
+            sb.append("    };\n    istore_0;\n");
+        }
+        return sb.append("    iload_0;\n    ireturn;\n  }\n}\n").toString();
+    }
+
+    /**
+     * @return the class file of {@code Annotated} having the given number of methods; javac compiles every method
+     * with annotations, a generic signature, parameters, local variables, line numbers and a stack map
+     */
+    public static byte[] attributes(int methods) {
+        StringBuilder sb = new StringBuilder("""
+                import java.lang.annotation.*;
+                import java.util.*;
+                public class Annotated {
+                    @Retention(RetentionPolicy.RUNTIME)
+                    @interface Tag { String value(); int[] order() default {}; ElementType kind(); }
+                """);
+        for (int i = 0; i < methods; i++) {
+            sb.append("""
+                        @Deprecated
+                        @Tag(value = "m%1$d", order = {%1$d, 1, 2}, kind = ElementType.METHOD)
+                        public <T extends Comparable<T>> List<T> m%1$d(final List<T> list, int limit) {
+                            List<T> result = new ArrayList<>();
+                            for (T item : list) {
+                                if (result.size() < limit && item.compareTo(list.get(0)) > 0) {
+                                    result.add(item);
+                                }
+                            }
+                            return result;
+                        }
+                    """.formatted(i));
+        }
+        return compile("Annotated", sb.append("}\n").toString());
+    }
+
+    /**
+     * @return the class file assembled from the jasm source
+     */
+    public static byte[] assemble(String jasm) {
+        ToolConfiguration.Result result = ToolConfiguration.of("jasm").run(new ByteInput(bytes(jasm)));
+        if (result.status() != 0) {
+            throw new IllegalStateException(result.log());
+        }
+        return result.outputs().get(0).getBody();
+    }
+
+    public static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compile(String className, String source) {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        if (javac == null) {
+            throw new IllegalStateException("The benchmark requires javac, run it by JDK");
+        }
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory("asmtools-bench");
+            Path file = Files.writeString(dir.resolve(className + ".java"), source);
+            ByteArrayOutputStream log = new ByteArrayOutputStream();
+            if (javac.run(null, log, log, "-g", "-parameters", "-d", dir.toString(), file.toString()) != 0) {
+                throw new IllegalStateException(log.toString());
+            }
+            return Files.readAllBytes(dir.resolve(className + ".class"));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } finally {
+            if (dir != null) {
+                try (Stream<Path> files = Files.walk(dir)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
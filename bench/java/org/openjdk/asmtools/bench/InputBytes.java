@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -20,43 +20,30 @@
  * or visit www.oracle.com if you need additional information or have any
  * questions.
  */
-package org.openjdk.asmtools.jdec;
+package org.openjdk.asmtools.bench;
 
-import java.io.ByteArrayInputStream;
-import java.util.Stack;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 
 /**
- * this class provides functionality needed to read class files:
- * <ul>
- * <li>methods to read unsigned integers of various length
- * <li>counts bytes read so far
- * </ul>
+ * Counts the input bytes the benchmark method consumed. In the throughput mode JMH reports the counter
+ * as bytes/s next to the classes/s (ops/s) of the benchmark.
  */
-public class NestedByteArrayInputStream extends ByteArrayInputStream {
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class InputBytes {
 
-    NestedByteArrayInputStream(byte buf[]) {
-        super(buf);
-    }
-
-    NestedByteArrayInputStream(byte buf[], int offset, int length) {
-        super(buf, offset, length);
-    }
+    public long bytes;
 
-    public int getPos() {
-        return pos;
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
     }
-    Stack savedStates = new Stack();
 
-    public void enter(int range) {
-        savedStates.push(count);
-        if (pos + range < count) {
-            count = pos + range;
-        }
+    void add(byte[] input) {
+        bytes += input.length;
     }
-
-    public void leave() {
-        pos = count;
-        count = ((Integer) savedStates.pop()).intValue();
-    }
-} // end class NestedByteArrayInputStream
-
+}
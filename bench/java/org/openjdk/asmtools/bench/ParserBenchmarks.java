@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.bench;
+
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The jasm parser on the sources jdis produces for the class files of the running JDK image. The classes are built
+ * but not written ({@code -nowrite}), so the score is the parsing rate in classes/s; the {@code bytes} counter is
+ * the source in bytes/s. With {@code -p trace=true} the tracing is on and the trace is discarded, which shows the cost
+ * of the trace calls:
+ * <pre>
+ *     java -jar target/benchmarks.jar ParserBenchmarks -p trace=false,true
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmarks {
+
+    // the directory of the jrt:/ image to take the classes from
+    @Param({"/modules/java.base/java/util"})
+    public String root;
+
+    @Param({"500"})
+    public int limit;
+
+    @Param({"false"})
+    public boolean trace;
+
+    private Corpus corpus;
+    private ToolConfiguration jasm;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        corpus = Corpus.load(root, limit);
+        jasm = trace ? ToolConfiguration.of("jasm", "-nowrite", "-t") : ToolConfiguration.of("jasm", "-nowrite");
+        System.out.printf("%n%d classes: jasm %d bytes, tracing %s%n", corpus.size(), corpus.jasmBytes,
+                trace ? "on" : "off");
+    }
+
+    @Benchmark
+    public int parse(ToolBenchmarks.Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.jasm[cursor.next(corpus.size())];
+        counter.add(input);
+        ToolConfiguration.Result result = jasm.run(new ByteInput(input));
+        if (result.status() != 0) {
+            throw new IllegalStateException(result.log());
+        }
+        return result.log().length();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.bench;
+
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks of the four tools on the class files of the running JDK image. Every operation processes
+ * one class of the corpus, so the score is in classes/s; the {@code bytes} counter is the input in bytes/s and
+ * {@code -prof gc} reports the allocation per class as {@code gc.alloc.rate.norm}:
+ * <pre>
+ *     java -jar target/benchmarks.jar ToolBenchmarks -prof gc
+ * </pre>
+ * jdis and jdec read the class files, jasm and jcoder read the sources produced by jdis and jdec,
+ * the pipeline disassembles a class and assembles it back.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToolBenchmarks {
+
+    // the directory of the jrt:/ image to take the classes from
+    @Param({"/modules/java.base/java/util"})
+    public String root;
+
+    @Param({"500"})
+    public int limit;
+
+    private Corpus corpus;
+    private ToolConfiguration jdis;
+    private ToolConfiguration jdec;
+    private ToolConfiguration jasm;
+    private ToolConfiguration jcoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        corpus = Corpus.load(root, limit);
+        jdis = ToolConfiguration.of("jdis");
+        jdec = ToolConfiguration.of("jdec");
+        jasm = ToolConfiguration.of("jasm");
+        jcoder = ToolConfiguration.of("jcoder");
+        System.out.printf("%n%d classes: %d bytes, jasm %d bytes, jcod %d bytes%n",
+                corpus.size(), corpus.classBytes, corpus.jasmBytes, corpus.jcodBytes);
+    }
+
+    /**
+     * The position of a benchmark thread in the corpus
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int size) {
+            int index = next;
+            next = index + 1 == size ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public byte[] jdis(Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.classes[cursor.next(corpus.size())];
+        counter.add(input);
+        return Corpus.output(jdis.run(new ByteInput(input)));
+    }
+
+    @Benchmark
+    public byte[] jdec(Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.classes[cursor.next(corpus.size())];
+        counter.add(input);
+        return Corpus.output(jdec.run(new ByteInput(input)));
+    }
+
+    @Benchmark
+    public byte[] jasm(Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.jasm[cursor.next(corpus.size())];
+        counter.add(input);
+        return Corpus.output(jasm.run(new ByteInput(input)));
+    }
+
+    @Benchmark
+    public byte[] jcoder(Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.jcod[cursor.next(corpus.size())];
+        counter.add(input);
+        return Corpus.output(jcoder.run(new ByteInput(input)));
+    }
+
+    @Benchmark
+    public byte[] pipeline(Cursor cursor, InputBytes counter) {
+        byte[] input = corpus.classes[cursor.next(corpus.size())];
+        counter.add(input);
+        return Corpus.output(jasm.run(new ByteInput(Corpus.output(jdis.run(new ByteInput(input))))));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jasm;
+
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.common.outputs.log.StringLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.asmtools.jasm.ClassFileConst.ConstType.*;
+
+/**
+ * The jasm constant pool filled with the given number of entries by {@code findCell}, as the parser does,
+ * and itemized as the class is written. The time per pool grows linearly with the entries while both are linear.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstantPoolBenchmarks {
+
+    // every method reference adds 5 entries: Utf8 of the class name, Class, Utf8 of the name, NameAndType, Methodref
+    private static final int ENTRIES_PER_METHOD = 5;
+
+    @Param({"1000", "10000", "60000"})
+    public int entries;
+
+    /**
+     * The pool filled anew for every invocation of the itemizing
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+        private ConstantPool pool;
+
+        @Setup(Level.Invocation)
+        public void setup(ConstantPoolBenchmarks benchmark) {
+            pool = benchmark.fill();
+        }
+    }
+
+    @Benchmark
+    public ConstantPool findCell() {
+        return fill();
+    }
+
+    @Benchmark
+    public ConstantPool itemizePool(Filled filled) {
+        filled.pool.itemizePool();
+        return filled.pool;
+    }
+
+    private ConstantPool fill() {
+        JasmEnvironment environment = new JasmEnvironment.JasmBuilder(new ByteOutput(), new StringLog()).build();
+        ConstantPool pool = new ConstantPool(environment);
+        ConstCell<?> descriptor = pool.findUTF8Cell("()V");
+        for (int i = 0; i < entries / ENTRIES_PER_METHOD; i++) {
+            ConstCell<?> owner = pool.findClassCell("p/C" + i);
+            ConstCell<?> nameAndType = pool.findCell(CONSTANT_NAMEANDTYPE, pool.findUTF8Cell("m" + i), descriptor);
+            pool.findCell(CONSTANT_METHODREF, owner, nameAndType);
+        }
+        return pool;
+    }
+}
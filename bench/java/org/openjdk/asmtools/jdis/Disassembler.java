@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.common.outputs.log.StringLog;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Reads and prints a class the way jdis does, without the tool around it
+ */
+final class Disassembler {
+
+    private Disassembler() {
+    }
+
+    static ClassData read(byte[] classFile) throws IOException, URISyntaxException {
+        JdisEnvironment environment = new JdisEnvironment.JdisBuilder(new ByteOutput(), new StringLog()).build();
+        ByteInput input = new ByteInput(classFile);
+        environment.setToolInput(input);
+        ClassData classData = new ClassData(environment);
+        classData.read(ClassFileReader.of(input, Optional.of(environment)), Paths.get(input.getName()));
+        return classData;
+    }
+
+    static byte[] print(ClassData classData) throws IOException {
+        ByteOutput output = (ByteOutput) classData.environment.getToolOutput();
+        output.startClass(classData.className, Optional.of(".jasm"), classData.environment);
+        classData.print();
+        output.finishClass(classData.className);
+        return output.getOutputs().get(0).getBody();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.openjdk.asmtools.bench.Generated;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.asmtools.jdis.ConstantPool.TAG.CONSTANT_INVOKEDYNAMIC;
+
+/**
+ * jdis printing the operands of invokedynamic heavy code: {@code Indenter.formatOperandLine} alone on the operands
+ * of all call sites of a class, and the whole class printed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndyBenchmarks {
+
+    @Param({"100", "1000"})
+    public int callSites;
+
+    // the static arguments of a bootstrap method
+    @Param({"4", "32"})
+    public int arguments;
+
+    private ClassData classData;
+    private byte[] classFile;
+    private String[] operands;
+
+    private final Indenter indenter = new Indenter() {
+    };
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, URISyntaxException {
+        classFile = Generated.assemble(Generated.invokeDynamics(callSites, arguments));
+        classData = Disassembler.read(classFile);
+        classData.pool.setPrintTAG(true);
+        List<String> values = new ArrayList<>();
+        for (int i = 1; i < classData.pool.size(); i++) {
+            if (classData.pool.getTag(i) == CONSTANT_INVOKEDYNAMIC) {
+                values.add(classData.pool.ConstantStrValue(i));
+            }
+        }
+        operands = values.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public int formatOperandLine() {
+        int length = 0;
+        for (String operand : operands) {
+            length += indenter.formatOperandLine(operand, 40, " // ", Indenter.InvokeDynamicBreakPositions).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public byte[] readAndPrint() throws IOException, URISyntaxException {
+        return Disassembler.print(Disassembler.read(classFile));
+    }
+}
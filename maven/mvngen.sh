@@ -37,14 +37,20 @@ PRODUCT_BUILDNUMBER=$(readProperty "PRODUCT_BUILDNUMBER")
 PRODUCT_NAME_LONG=$(readProperty "PRODUCT_NAME_LONG")
 RELEASE=$(readProperty "javac.release.version" "$BUILD_INFO")
 
-echo "Generating $SCRIPT_DIR/pom.xml for $PRODUCT_NAME $PRODUCT_VERSION $PRODUCT_MILESTONE $PRODUCT_BUILDNUMBER ($PRODUCT_NAME_LONG)"
-cat "$SCRIPT_DIR/pom.xml.in" | \
-sed "s/\[RELEASE\]/$RELEASE/g" | \
-sed "s/\[PRODUCT_NAME\]/$PRODUCT_NAME/g" | \
-sed "s/\[PRODUCT_VERSION\]/$PRODUCT_VERSION/g" | \
-sed "s/\[PRODUCT_MILESTONE\]/$PRODUCT_MILESTONE/g" | \
-sed "s/\[PRODUCT_BUILDNUMBER\]/$PRODUCT_BUILDNUMBER/g" | \
-sed "s/\[PRODUCT_NAME_LONG\]/$PRODUCT_NAME_LONG/g" > "$SCRIPT_DIR/pom.xml"
+function generatePom() {
+  echo "Generating $1 for $PRODUCT_NAME $PRODUCT_VERSION $PRODUCT_MILESTONE $PRODUCT_BUILDNUMBER ($PRODUCT_NAME_LONG)"
+  cat "$1.in" | \
+  sed "s/\[RELEASE\]/$RELEASE/g" | \
+  sed "s/\[PRODUCT_NAME\]/$PRODUCT_NAME/g" | \
+  sed "s/\[PRODUCT_VERSION\]/$PRODUCT_VERSION/g" | \
+  sed "s/\[PRODUCT_MILESTONE\]/$PRODUCT_MILESTONE/g" | \
+  sed "s/\[PRODUCT_BUILDNUMBER\]/$PRODUCT_BUILDNUMBER/g" | \
+  sed "s/\[PRODUCT_NAME_LONG\]/$PRODUCT_NAME_LONG/g" > "$1"
+}
+
+generatePom "$SCRIPT_DIR/pom.xml"
+# JMH benchmarks module, depends on the asmtools artifact installed by "mvn install"
+generatePom "$SCRIPT_DIR/jmh/pom.xml"
 echo "Done"
 
 echo "Creating symlinks to symulate maven structure"
@@ -55,7 +61,8 @@ src/main/resources/org/openjdk/asmtools/jasm/i18n.properties=../../../../../../.
 src/main/resources/org/openjdk/asmtools/jcoder/i18n.properties=../../../../../../../../src/org/openjdk/asmtools/jcoder/i18n.properties
 src/main/resources/org/openjdk/asmtools/jdec/i18n.properties=../../../../../../../../src/org/openjdk/asmtools/jdec/i18n.properties
 src/main/resources/org/openjdk/asmtools/jdis/i18n.properties=../../../../../../../../src/org/openjdk/asmtools/jdis/i18n.properties
-src/main/resources/org/openjdk/asmtools/util/productinfo.properties=../../../../../../../../build/productinfo.properties"
+src/main/resources/org/openjdk/asmtools/util/productinfo.properties=../../../../../../../../build/productinfo.properties
+jmh/src/main/java=../../../../bench/java"
 
 pushd $SCRIPT_DIR > /dev/null
   for FILE_LINK in $FILES_LINKS ; do
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools;
+
+import org.openjdk.asmtools.common.Environment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.openjdk.asmtools.Main.STDIN_SWITCH;
+import static org.openjdk.asmtools.Main.sharedI18n;
+import static org.openjdk.asmtools.Server.EXIT;
+import static org.openjdk.asmtools.Server.STDERR;
+import static org.openjdk.asmtools.Server.STDOUT;
+
+/**
+ * The client of the asmtools {@link Server}. It forwards the command line, the working directory and stdin
+ * to the server and copies the output of the tool to stdout and stderr.
+ */
+public class Client {
+
+    // asmtools client entry point
+    public static void main(String... argv) {
+        if (argv.length == 0) {
+            Main.usage(sharedI18n.getString("main.error.no_socket"), Environment.FAILED);
+        }
+        String[] args = Arrays.copyOfRange(argv, 1, argv.length);
+        try {
+            // stdin is read only if a tool is asked to read it
+            InputStream stdin = Arrays.asList(args).contains(STDIN_SWITCH) ? System.in : null;
+            int status = run(Path.of(argv[0]), Path.of("").toAbsolutePath(), stdin, System.out, System.err, args);
+            System.out.flush();
+            System.exit(status);
+        } catch (IOException ioe) {
+            System.err.println(sharedI18n.getString("main.error.server", argv[0], ioe));
+            System.exit(Environment.FAILED);
+        }
+    }
+
+    /**
+     * Runs the tool on the server
+     *
+     * @param socket           the socket file the server listens on
+     * @param workingDirectory the directory the relative file names of the arguments are resolved against
+     * @param stdin            the input read by the tool if {@code -} is given, or null
+     * @param stdout           the stream the output of the tool is written to
+     * @param stderr           the stream the log of the tool is written to
+     * @param args             the tool name followed by its arguments
+     * @return the exit status of the tool
+     * @throws IOException if the server isn't available
+     */
+    public static int run(Path socket, Path workingDirectory, InputStream stdin, OutputStream stdout,
+                          OutputStream stderr, String... args) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            Server.writeString(out, workingDirectory.toString());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                Server.writeString(out, arg);
+            }
+            byte[] input = stdin == null ? new byte[0] : stdin.readAllBytes();
+            out.writeInt(input.length);
+            out.write(input);
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (true) {
+                byte kind = in.readByte();
+                switch (kind) {
+                    case EXIT -> {
+                        return in.readInt();
+                    }
+                    case STDOUT -> stdout.write(in.readNBytes(in.readInt()));
+                    case STDERR -> {
+                        stderr.write(in.readNBytes(in.readInt()));
+                        stderr.flush();
+                    }
+                    default -> throw new IOException(sharedI18n.getString("main.error.unexpected_frame", kind));
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,6 +23,10 @@
 package org.openjdk.asmtools;
 
 import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.Tool;
+import org.openjdk.asmtools.common.inputs.ToolInput;
+import org.openjdk.asmtools.common.outputs.ToolOutput;
+import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 import org.openjdk.asmtools.util.I18NResourceBundle;
 import org.openjdk.asmtools.util.ProductInfo;
 
@@ -38,6 +42,9 @@ public class Main {
     public static final String DIR_SWITCH="-d";
     public static final String WRITE_SWITCH="-w";
     public static final String DUAL_LOG_SWITCH ="-dls";
+    public static final String THREADS_SWITCH = "-j";
+    public static final String ZIP_SWITCH = "-zip";
+    public static final String ZIP_STORED_SWITCH = "-0";
 
     /**
      * Parses the first argument and delegates execution to an appropriate tool
@@ -65,6 +72,10 @@ public class Main {
                 jcoder(newArgs);
             } else if (cmd.equals("jdec")) {
                 jdec(newArgs);
+            } else if (cmd.equals("server")) {
+                Server.main(newArgs);
+            } else if (cmd.equals("client")) {
+                Client.main(newArgs);
             } else {
                 usage(sharedI18n.getString("main.error.unknown_tool", cmd), 1);
             }
@@ -92,6 +103,25 @@ public class Main {
         System.out.println(ProductInfo.FULL_VERSION);
     }
 
+    /**
+     * Creates the tool by its name
+     *
+     * @param name       jasm, jdis, jcoder or jdec
+     * @param toolOutput the output of the tool
+     * @param log        the log of the tool
+     * @param toolInputs the inputs of the tool besides the files given by its arguments
+     * @return the tool, or null if the name is unknown
+     */
+    static Tool<?> newTool(String name, ToolOutput toolOutput, DualStreamToolOutput log, ToolInput... toolInputs) {
+        return switch (name) {
+            case "jasm" -> new org.openjdk.asmtools.jasm.Main(toolOutput, log, toolInputs);
+            case "jdis" -> new org.openjdk.asmtools.jdis.Main(toolOutput, log, toolInputs);
+            case "jcoder" -> new org.openjdk.asmtools.jcoder.Main(toolOutput, log, toolInputs);
+            case "jdec" -> new org.openjdk.asmtools.jdec.Main(toolOutput, log, toolInputs);
+            default -> null;
+        };
+    }
+
     /**
      * Invokes jasm main class with passed arguments
      */
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools;
+
+import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.Tool;
+import org.openjdk.asmtools.common.outputs.EscapedPrintStreamOutput;
+import org.openjdk.asmtools.common.outputs.ToolOutput;
+import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
+import org.openjdk.asmtools.common.outputs.log.SingleDualOutputStreamOutput;
+import org.openjdk.asmtools.util.ProductInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.openjdk.asmtools.Main.sharedI18n;
+
+/**
+ * The asmtools server runs the tools in a JVM that stays warm between the invocations.
+ * <p>
+ * It listens on a UNIX-domain socket and serves every connection on its own thread with a new instance of the tool,
+ * so the requests are isolated from each other and may run concurrently. A connection carries one request:
+ * <pre>
+ *     request:  string working-directory, int argc, string[argc] tool-and-arguments, int n, byte[n] stdin
+ *     response: { byte STDOUT|STDERR, int n, byte[n] data }* byte EXIT, int status
+ * </pre>
+ * where a string is an int length followed by its UTF-8 bytes and the numbers are big-endian.
+ * The relative file names of the arguments are resolved against the working directory.
+ * The tools read and write files as the user running the server, hence only this user may connect to the socket.
+ * {@link Client} is the client forwarding the command line, stdin, stdout and stderr.
+ */
+public class Server implements Closeable {
+
+    // the kinds of the response frames
+    static final byte EXIT = 0;
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+
+    private final Path socket;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "asmtools-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Binds the server to the socket file, a stale socket file is replaced.
+     * On POSIX file systems the socket is bound in a directory accessible only by the owner,
+     * made {@code rw-------} and then moved to its place, so no other user is able to connect at any time.
+     */
+    public Server(Path socket) throws IOException {
+        this.socket = socket.toAbsolutePath();
+        Files.deleteIfExists(this.socket);
+        serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            if (this.socket.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                bindOwnerOnly();
+            } else {
+                serverChannel.bind(UnixDomainSocketAddress.of(this.socket));
+            }
+        } catch (IOException | RuntimeException ex) {
+            serverChannel.close();
+            throw ex;
+        }
+    }
+
+    private void bindOwnerOnly() throws IOException {
+        Path directory = Files.createTempDirectory(socket.getParent(), ".asmtools",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        Path boundSocket = directory.resolve(socket.getFileName());
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(boundSocket));
+            Files.setPosixFilePermissions(boundSocket, PosixFilePermissions.fromString("rw-------"));
+            Files.move(boundSocket, socket, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(boundSocket);
+            Files.delete(directory);
+        }
+    }
+
+    // asmtools server entry point
+    public static void main(String... argv) {
+        if (argv.length != 1) {
+            Main.usage(sharedI18n.getString("main.error.no_socket"), Environment.FAILED);
+        }
+        try {
+            Server server = new Server(Path.of(argv[0]));
+            // the server is closed either by the shutdown hook or when it stops serving, closing it twice is harmless
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.close();
+                } catch (IOException ignored) {
+                }
+            }));
+            System.err.println(sharedI18n.getString("main.server.listening", argv[0]));
+            try {
+                server.serve();
+            } finally {
+                server.close();
+            }
+        } catch (IOException ioe) {
+            System.err.println(sharedI18n.getString("main.error.server", argv[0], ioe));
+            System.exit(Environment.FAILED);
+        }
+    }
+
+    /**
+     * Accepts the connections until the server is closed
+     */
+    public void serve() throws IOException {
+        try {
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                executor.execute(() -> serve(channel));
+            }
+        } catch (ClosedChannelException closed) {
+            // the server is closed
+        }
+    }
+
+    /**
+     * Stops accepting the connections and removes the socket file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            serverChannel.close();
+            executor.shutdown();
+        } finally {
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    // Runs the request of the connection
+    private void serve(SocketChannel channel) {
+        try (channel;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            Path workingDirectory = Path.of(readString(in));
+            String[] args = new String[in.readInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = readString(in);
+            }
+            byte[] stdin = in.readNBytes(in.readInt());
+            int status;
+            try (PrintStream stdout = new PrintStream(new FrameOutputStream(out, STDOUT), false);
+                 PrintStream stderr = new PrintStream(new FrameOutputStream(out, STDERR), true)) {
+                status = run(workingDirectory, new ByteArrayInputStream(stdin), stdout, stderr, args);
+            }
+            out.writeByte(EXIT);
+            out.writeInt(status);
+        } catch (IOException ignored) {
+            // the client is gone
+        }
+    }
+
+    /**
+     * Runs the tool named by the first argument as {@link Main} does, but in this JVM
+     *
+     * @return the exit status
+     */
+    static int run(Path workingDirectory, InputStream stdin, PrintStream stdout, PrintStream stderr,
+                   String... args) {
+        String cmd = args.length == 0 ? "-?" : args[0];
+        String[] toolArgs = args.length == 0 ? args : Arrays.copyOfRange(args, 1, args.length);
+        ToolOutput toolOutput = new EscapedPrintStreamOutput(stdout);
+        DualStreamToolOutput log = new SingleDualOutputStreamOutput(stderr);
+        Tool<?> tool = Main.newTool(cmd, toolOutput, log);
+        if (tool == null) {
+            if (cmd.equals(Main.VERSION_SWITCH)) {
+                stdout.println(ProductInfo.FULL_VERSION);
+                return Environment.OK;
+            }
+            stderr.println(sharedI18n.getString("main.usage", "asmtools.jar"));
+            if (args.length == 0) {
+                stderr.println(sharedI18n.getString("main.error.no_arguments"));
+                return Environment.FAILED;
+            } else if (!cmd.equals("-?") && !cmd.equals("-h") && !cmd.equals("-help")) {
+                stderr.println(sharedI18n.getString("main.error.unknown_tool", cmd));
+                return Environment.FAILED;
+            }
+            return Environment.OK;
+        }
+        try {
+            return tool.runHosted(workingDirectory, stdin, stdout, stderr, toolArgs);
+        } catch (RuntimeException | Error ex) {
+            // the tool failed unexpectedly, the server keeps serving
+            ex.printStackTrace(stderr);
+            return Environment.FAILED;
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the data to the response in frames of the kind. The frames of stdout and stderr
+     * may interleave, the data of a frame is written at once.
+     */
+    private static class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte kind;
+        private final byte[] buffer = new byte[8192];
+        private int count = 0;
+
+        FrameOutputStream(DataOutputStream out, byte kind) {
+            this.out = out;
+            this.kind = kind;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                writeFrame();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) {
+                    writeFrame();
+                }
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeFrame();
+            synchronized (out) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeFrame();
+        }
+
+        private void writeFrame() throws IOException {
+            if (count > 0) {
+                synchronized (out) {
+                    out.writeByte(kind);
+                    out.writeInt(count);
+                    out.write(buffer, 0, count);
+                }
+                count = 0;
+            }
+        }
+    }
+}
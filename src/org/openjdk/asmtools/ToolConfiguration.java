@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools;
+
+import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.Tool;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.common.inputs.ToolInput;
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.common.outputs.log.StringLog;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.openjdk.asmtools.Main.sharedI18n;
+
+/**
+ * The configuration of a tool to run in-process: the tool name and its options, checked once when the configuration
+ * is created. The costly results of parsing the options, e.g. the execution profile of jdis {@code -profile}, are kept
+ * and reused by the runs. The configuration is immutable. Every {@link #run} creates a new instance of the tool, so the
+ * configuration may be shared and run by any number of threads at once:
+ * <pre>
+ *     ToolConfiguration jdis = ToolConfiguration.of("jdis", "-g");
+ *     ToolConfiguration.Result result = jdis.run(new ByteInput(classFile));
+ * </pre>
+ */
+public final class ToolConfiguration {
+
+    private static final PrintStream NULL_STREAM = new PrintStream(OutputStream.nullOutputStream());
+
+    private final String name;
+    private final String[] options;
+    // the tool that parsed the options, the runs take over the results of the parsing
+    private final Tool<?> parsed;
+
+    private ToolConfiguration(String name, String[] options, Tool<?> parsed) {
+        this.name = name;
+        this.options = options;
+        this.parsed = parsed;
+    }
+
+    /**
+     * Creates the configuration of the tool
+     *
+     * @param name    jasm, jdis, jcoder or jdec
+     * @param options the options of the tool as on the command line, file names are resolved against
+     *                the working directory of the JVM
+     * @throws IllegalArgumentException if the tool is unknown or the options are invalid
+     */
+    public static ToolConfiguration of(String name, String... options) {
+        StringLog log = new StringLog();
+        // the input placeholder lets the options be parsed as they are parsed by the runs
+        Tool<?> tool = Main.newTool(name, new ByteOutput(), log, new ByteInput(new byte[0]));
+        if (tool == null) {
+            throw new IllegalArgumentException(sharedI18n.getString("main.error.unknown_tool", name));
+        }
+        try {
+            if (tool.parseHosted(options) != Environment.OK) {
+                throw new IllegalArgumentException(log.toString());
+            }
+        } finally {
+            // e.g. the archives named by the options, the runs open them again
+            tool.release();
+        }
+        return new ToolConfiguration(name, options.clone(), tool);
+    }
+
+    /**
+     * Runs the tool on the inputs
+     *
+     * @return the status, the outputs and the log of the tool
+     */
+    public Result run(ToolInput... inputs) {
+        ByteOutput output = new ByteOutput();
+        StringLog log = new StringLog();
+        Tool<?> tool = Main.newTool(name, output, log, inputs);
+        tool.reuseParsing(parsed);
+        int status = tool.runHosted(null, InputStream.nullInputStream(), NULL_STREAM, NULL_STREAM, options);
+        return new Result(status, List.copyOf(output.getOutputs()), log.toString(), Map.copyOf(tool.getCounters()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getOptions() {
+        return List.of(options);
+    }
+
+    /**
+     * The result of a run
+     *
+     * @param status   the exit status of the tool, 0 if the run succeeded
+     * @param outputs  the class files or the sources the tool produced
+     * @param log      the errors, warnings and other messages of the tool
+     * @param counters the counters of the tool by their names, e.g. {@code renderings.CLASS_NAME.hits} of jdis,
+     *                 so a profiling run reads them without parsing the trace
+     */
+    public record Result(int status, List<ByteOutput.NamedBinary> outputs, String log, Map<String, Long> counters) {
+    }
+}
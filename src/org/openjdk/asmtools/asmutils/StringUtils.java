@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,7 @@ package org.openjdk.asmtools.asmutils;
 
 import java.awt.event.KeyEvent;
 import java.io.ByteArrayInputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
@@ -178,7 +179,7 @@ public class StringUtils {
      * @return list of lines for printing
      * @throws IOException exception might happen while reading DataInputStream
      */
-    public static List<String> readUtf8String(DataInputStream in, int length, int CHARS_IN_LINE) throws IOException {
+    public static List<String> readUtf8String(DataInput in, int length, int CHARS_IN_LINE) throws IOException {
         final int BYTES_IN_LINE = CHARS_IN_LINE / 6 + 1;
         final List<String> list = new ArrayList<>();
         List<StringBuilder> byteLines = new ArrayList() {{
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,4 +39,9 @@ public abstract class Compiler<T extends Environment<? extends ToolLogger>> exte
 
     // Run a compiler when args already parsed
     public abstract int compile();
+
+    @Override
+    protected int run() {
+        return compile();
+    }
 }
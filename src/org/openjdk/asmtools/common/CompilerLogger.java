@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,6 +23,7 @@
 package org.openjdk.asmtools.common;
 
 import org.openjdk.asmtools.asmutils.Pair;
+import org.openjdk.asmtools.common.inputs.SourceText;
 import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
@@ -47,7 +48,8 @@ public class CompilerLogger extends ToolLogger implements ILogger {
 
     // Message Container
     private final Map<Long, Set<Message>> container = new HashMap<>();
-    private final List<String> fileContent = new ArrayList<>();
+    // The text of the scanned file shared with the scanner
+    private SourceText source = SourceText.EMPTY;
 
     /**
      * @param programName the tool name
@@ -124,8 +126,16 @@ public class CompilerLogger extends ToolLogger implements ILogger {
     @Override
     public void setInputFileName(ToolInput inputFileName) throws IOException {
         super.setInputFileName(inputFileName);
-        fileContent.clear();
-        fileContent.addAll(inputFileName.readAllLines());
+        source = SourceText.EMPTY;
+    }
+
+    /**
+     * Sets the text of the input file the messages refer to
+     *
+     * @param source the text read by the scanner
+     */
+    public void setSource(SourceText source) {
+        this.source = source;
     }
 
     /**
@@ -136,7 +146,7 @@ public class CompilerLogger extends ToolLogger implements ILogger {
      * @return the pair: [line number, line offset]
      */
     Pair<Long, Long> filePosition(long where) {
-        if (where == NOWHERE || fileContent.isEmpty()) {
+        if (where == NOWHERE || source.lineCount() == 0) {
             return null;
         } else {
             long lineNumber = lineNumber(where);
@@ -150,9 +160,7 @@ public class CompilerLogger extends ToolLogger implements ILogger {
 
     public long lineOffset(long lineNumber, long where) {
         long absPos = where & ((1L << OFFSET_BITS) - 1);
-        return absPos - (fileContent.subList(0, (int) lineNumber - 1).
-                stream().mapToInt(String::length).sum() + lineNumber - 1);
-
+        return absPos - source.lineStart((int) lineNumber - 1);
     }
 
     public long getCount(EMessageKind kind) {
@@ -219,8 +227,8 @@ public class CompilerLogger extends ToolLogger implements ILogger {
     // Removes tabs from a source line to get the correct line position while printing.
     private void printAffectedSourceLine(ToolOutput output, Pair<Long, Long> filePosition) {
         int ln = (int) (filePosition.first - 1);
-        boolean eof = filePosition.first > fileContent.size();
-        String line = fileContent.get(min(fileContent.size() - 1, ln));
+        boolean eof = filePosition.first > source.lineCount();
+        String line = source.line(min(source.lineCount() - 1, ln));
         long countOfExtraSpaces = line.chars().filter(ch -> ch == '\t').count();
         line = line.replace("\t", TAB_REPLACEMENT);
         long linePosition = (eof) ? line.length() :
@@ -233,7 +241,7 @@ public class CompilerLogger extends ToolLogger implements ILogger {
      * Insert a message in the list of outstanding messages. The list is sorted on input position.
      */
     private void insert(long where, Message message) {
-        if (where != NOWHERE && fileContent.isEmpty()) {
+        if (where != NOWHERE && source.lineCount() == 0) {
             addToContainer(NOWHERE,
                     new Message(ERROR, EMessageFormatter.LONG.apply(ERROR, this.getProgramName(),
                             "Content of the file %s not found", getSimpleInputFileName())));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,12 +22,26 @@
  */
 package org.openjdk.asmtools.common;
 
+import org.openjdk.asmtools.common.inputs.ArchiveInput;
+import org.openjdk.asmtools.common.inputs.FileInput;
+import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.regex.PatternSyntaxException;
+
 import static org.openjdk.asmtools.common.Environment.OK;
 
 public abstract class Decoder<T extends Environment<? extends ToolLogger>> extends Tool<T> {
+
+    // include/exclude globs of the archive entries to decode
+    protected final ArchiveInput.EntryFilter entryFilter = new ArchiveInput.EntryFilter();
+    private final List<ArchiveInput> archives = new ArrayList<>();
+
     protected Decoder(ToolOutput toolOutput, DualStreamToolOutput outerLog) {
         super(toolOutput, outerLog);
     }
@@ -40,4 +54,74 @@ public abstract class Decoder<T extends Environment<? extends ToolLogger>> exten
 
     // Run a decoder when args already parsed
     public abstract int decode();
+
+    @Override
+    protected int run() {
+        return decode();
+    }
+
+    /**
+     * Adds the include or exclude glob of names of archive entries
+     */
+    protected void addEntryGlob(boolean include, int index, String... argv) {
+        if (index >= argv.length) {
+            environment.error("err.glob_requires_argument", argv[index - 1]);
+            usage();
+            throw new IllegalArgumentException();
+        }
+        try {
+            if (include) {
+                entryFilter.include(argv[index]);
+            } else {
+                entryFilter.exclude(argv[index]);
+            }
+        } catch (PatternSyntaxException pse) {
+            environment.error("err.invalid_glob", argv[index]);
+            usage();
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Replaces jar, zip, jmod files and jrt:/ paths in the list of input files with the archive entries
+     * passing the entry filter. The archives are kept open until {@link #closeArchives()} is called.
+     *
+     * @return false if an archive can't be read
+     */
+    protected boolean openArchives() {
+        for (ListIterator<ToolInput> iterator = fileList.listIterator(); iterator.hasNext(); ) {
+            if (iterator.next() instanceof FileInput fileInput && ArchiveInput.isArchive(fileInput.getName())) {
+                iterator.remove();
+                try {
+                    ArchiveInput archive = ArchiveInput.open(fileInput.getName());
+                    archives.add(archive);
+                    archive.getEntries(entryFilter).forEach(iterator::add);
+                } catch (IOException | RuntimeException ex) {
+                    environment.error("err.cannot_read_archive", fileInput.getName(), ex);
+                    environment.printException(ex);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void release() {
+        closeArchives();
+    }
+
+    /**
+     * Closes the archives opened by {@link #openArchives()}
+     */
+    protected void closeArchives() {
+        for (ArchiveInput archive : archives) {
+            try {
+                archive.close();
+            } catch (IOException ioe) {
+                environment.printException(ioe);
+            }
+        }
+        archives.clear();
+    }
 }
@@ -41,12 +41,14 @@ public class
 
 DecompilerLogger extends ToolLogger implements ILogger {
 
-    // Message Container
+    // Message Container, guarded by this logger: jdis reports the issues of the members it prints in parallel
     private final LinkedHashSet<String> messages = new LinkedHashSet<String>();
 
     private Consumer<String> addToContainer = (String msg) -> {
         if (msg != null) {
-            messages.add(msg);
+            synchronized (this) {
+                messages.add(msg);
+            }
         }
     };
 
@@ -140,7 +142,7 @@ DecompilerLogger extends ToolLogger implements ILogger {
     }
 
     @Override
-    public long getCount(EMessageKind kind) {
+    public synchronized long getCount(EMessageKind kind) {
         return messages.stream().filter(msg -> msg.contains(kind.shortForm())).count();
     }
 
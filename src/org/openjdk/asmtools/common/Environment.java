@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -84,6 +84,14 @@ public abstract class Environment<T extends ToolLogger> implements ILogger {
         toolLogger.strictWarnings = true;
     }
 
+    public boolean isIgnoreWarnings() {
+        return toolLogger.ignoreWarnings;
+    }
+
+    public boolean isStrictWarnings() {
+        return toolLogger.strictWarnings;
+    }
+
 
     public boolean isIgnorePackage() {
         return ignorePackage;
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The globs of the options selecting what the tools process, e.g. {@code -include} and {@code -class}. The syntax is
+ * the syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)} globs, '/' being the name separator:
+ * <ul>
+ *     <li>{@code *} matches any characters within a name, {@code **} matches any characters across names;</li>
+ *     <li>{@code ?} matches one character of a name;</li>
+ *     <li>{@code [abc]}, {@code [a-z]} and {@code [!a-c]} match one character of a name from the bracket expression;</li>
+ *     <li>{@code {get,set}} matches either of the comma-separated subpatterns;</li>
+ *     <li>{@code \} escapes the next character.</li>
+ * </ul>
+ * The names of archive entries, classes (java/lang/Object) and descriptors (Ljava/lang/String;) are matched
+ * the same way, whatever the file system the tool runs on.
+ */
+public final class Glob {
+
+    private static final String REGEX_META_CHARS = ".^$+{[]|()";
+    private static final String GLOB_META_CHARS = "\\*?[{";
+    private static final char EOL = 0;
+
+    private Glob() {
+    }
+
+    /**
+     * @param glob the glob
+     * @return the pattern matching the strings the glob matches
+     * @throws PatternSyntaxException if the glob is invalid
+     */
+    public static Pattern toPattern(String glob) {
+        return Pattern.compile(toRegex(glob));
+    }
+
+    private static String toRegex(String glob) {
+        boolean inGroup = false;
+        StringBuilder regex = new StringBuilder("^");
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i++);
+            switch (c) {
+                case '\\' -> {
+                    if (i == glob.length()) {
+                        throw new PatternSyntaxException("No character to escape", glob, i - 1);
+                    }
+                    char next = glob.charAt(i++);
+                    if (GLOB_META_CHARS.indexOf(next) >= 0 || REGEX_META_CHARS.indexOf(next) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(next);
+                }
+                case '[' -> i = appendBracketExpression(glob, i, regex);
+                case '{' -> {
+                    if (inGroup) {
+                        throw new PatternSyntaxException("Cannot nest groups", glob, i - 1);
+                    }
+                    regex.append("(?:(?:");
+                    inGroup = true;
+                }
+                case '}' -> {
+                    if (inGroup) {
+                        regex.append("))");
+                        inGroup = false;
+                    } else {
+                        regex.append('}');
+                    }
+                }
+                case ',' -> regex.append(inGroup ? ")|(?:" : ",");
+                case '*' -> {
+                    if (next(glob, i) == '*') {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                }
+                case '?' -> regex.append("[^/]");
+                default -> {
+                    if (REGEX_META_CHARS.indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+        }
+        if (inGroup) {
+            throw new PatternSyntaxException("Missing '}'", glob, i - 1);
+        }
+        return regex.append('$').toString();
+    }
+
+    /**
+     * Appends the bracket expression starting after '[' at the index
+     *
+     * @return the index after the closing ']'
+     */
+    private static int appendBracketExpression(String glob, int i, StringBuilder regex) {
+        regex.append("[[^/]&&[");
+        if (next(glob, i) == '^') {
+            // escape the regex negation char if it appears
+            regex.append("\\^");
+            i++;
+        } else {
+            // negation
+            if (next(glob, i) == '!') {
+                regex.append('^');
+                i++;
+            }
+            // hyphen allowed at start
+            if (next(glob, i) == '-') {
+                regex.append('-');
+                i++;
+            }
+        }
+        boolean hasRangeStart = false;
+        char last = 0;
+        char c = EOL;
+        while (i < glob.length()) {
+            c = glob.charAt(i++);
+            if (c == ']') {
+                break;
+            }
+            if (c == '/') {
+                throw new PatternSyntaxException("Explicit 'name separator' in class", glob, i - 1);
+            }
+            if (c == '\\' || c == '[' || c == '&' && next(glob, i) == '&') {
+                // escape '\', '[' or "&&"
+                regex.append('\\');
+            }
+            regex.append(c);
+            if (c == '-') {
+                if (!hasRangeStart) {
+                    throw new PatternSyntaxException("Invalid range", glob, i - 1);
+                }
+                if ((c = next(glob, i++)) == EOL || c == ']') {
+                    break;
+                }
+                if (c < last) {
+                    throw new PatternSyntaxException("Invalid range", glob, i - 3);
+                }
+                regex.append(c);
+                hasRangeStart = false;
+            } else {
+                hasRangeStart = true;
+                last = c;
+            }
+        }
+        if (c != ']') {
+            throw new PatternSyntaxException("Missing ']'", glob, i - 1);
+        }
+        regex.append("]]");
+        return i;
+    }
+
+    private static char next(String glob, int i) {
+        return i < glob.length() ? glob.charAt(i) : EOL;
+    }
+}
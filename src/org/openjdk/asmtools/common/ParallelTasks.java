@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs a task for every item on a pool of worker threads and iterates over the results in the order of the items.
+ * <p>
+ * Only a few results per worker are computed ahead of the iteration, hence the memory held by finished but not yet
+ * consumed results doesn't depend on the number of items. Closing stops the tasks that are still running.
+ * <p>
+ * The tasks run either on worker threads of their own or on a pool of workers shared by the tasks run one after
+ * another, see {@link #newWorkers(int)}.
+ *
+ * @param <T> the type of items
+ * @param <R> the type of task results
+ */
+public class ParallelTasks<T, R> implements Iterable<R>, AutoCloseable {
+
+    // the number of results per worker that are computed ahead of the iteration
+    private static final int TASKS_AHEAD = 4;
+
+    private final ExecutorService executor;
+    // true if the worker threads are started for these tasks only
+    private final boolean ownExecutor;
+    private final Iterator<T> items;
+    private final Function<T, R> task;
+    private final ArrayDeque<Future<R>> pending = new ArrayDeque<>();
+    private final int window;
+
+    /**
+     * @param threads the number of worker threads
+     * @param items   the items to process
+     * @param task    the task run for each item on a worker thread
+     */
+    public ParallelTasks(int threads, List<T> items, Function<T, R> task) {
+        this(newWorkers(threads), true, threads, items, task);
+    }
+
+    /**
+     * @param workers the pool of worker threads, it isn't shut down when the tasks are closed
+     * @param threads the number of threads of the pool
+     * @param items   the items to process
+     * @param task    the task run for each item on a worker thread
+     */
+    public ParallelTasks(ExecutorService workers, int threads, List<T> items, Function<T, R> task) {
+        this(workers, false, threads, items, task);
+    }
+
+    private ParallelTasks(ExecutorService executor, boolean ownExecutor, int threads, List<T> items,
+                          Function<T, R> task) {
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+        this.items = items.iterator();
+        this.task = task;
+        this.window = threads * TASKS_AHEAD;
+    }
+
+    /**
+     * @param threads the number of worker threads
+     * @return the pool of worker threads, the caller shuts it down
+     */
+    public static ExecutorService newWorkers(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asmtools-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                submit();
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return await(pending.poll());
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(true));
+        pending.clear();
+        if (ownExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit() {
+        while (pending.size() < window && items.hasNext()) {
+            T item = items.next();
+            pending.add(executor.submit(() -> task.apply(item)));
+        }
+    }
+
+    private R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a result");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
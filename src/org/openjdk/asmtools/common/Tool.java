@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,10 +27,18 @@ import org.openjdk.asmtools.common.inputs.StdinInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.FSOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
+import org.openjdk.asmtools.common.outputs.ZipOutput;
+import org.openjdk.asmtools.common.outputs.log.DualOutputStreamOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.IntSupplier;
 
 import static org.openjdk.asmtools.common.outputs.FSOutput.FSDestination.DIR;
 
@@ -38,7 +46,19 @@ public abstract class Tool<T extends Environment<? extends ToolLogger>> {
 
     protected final ArrayList<ToolInput> fileList = new ArrayList<>();
     protected T environment;
+    // the number of threads processing the input files
+    protected int threads = 1;
     private ToolOutput toolOutput;
+    // the jar or zip file the classes are written to
+    private ZipOutput zipOutput;
+    private boolean storedZipEntries = false;
+    // The standard streams and the working directory of the tool. The server substitutes those of its client.
+    private InputStream stdin = System.in;
+    private PrintStream stdout = System.out;
+    private PrintStream stderr = System.err;
+    private Path workingDirectory = null;
+    // true if the tool must not exit the JVM, see exit(int)
+    private boolean hosted = false;
 
     protected Tool(ToolOutput toolOutput, DualStreamToolOutput outerLog) {
         this.environment = getEnvironment(toolOutput, outerLog);
@@ -66,9 +86,113 @@ public abstract class Tool<T extends Environment<? extends ToolLogger>> {
     // Usage
     protected abstract void usage();
 
-    // Parse arguments. The Tool will be left using System.Exit if an error is found.
+    // Parse arguments. The Tool will be left using exit(int) if an error is found.
     protected abstract void parseArgs(String... argv);
 
+    // Run the tool when args already parsed
+    protected abstract int run();
+
+    /**
+     * Runs the tool with args in the JVM it shares with other tools, e.g. in the asmtools server.
+     * The tool doesn't exit the JVM: the exit status is returned instead. The relative file names are resolved
+     * against the working directory, {@code -} reads stdin and {@code -dls} writes to stdout and stderr.
+     *
+     * @param workingDirectory the directory the relative file names are resolved against, or null
+     * @return the exit status of the tool
+     */
+    public int runHosted(Path workingDirectory, InputStream stdin, PrintStream stdout, PrintStream stderr,
+                         String... argv) {
+        this.workingDirectory = workingDirectory;
+        this.stdin = stdin;
+        this.stdout = stdout;
+        this.stderr = stderr;
+        try {
+            return hosted(() -> {
+                parseArgs(argv);
+                return run();
+            });
+        } finally {
+            // the text output is buffered till the end of a class, an interrupted class is flushed here
+            if (environment.getToolOutput() != null) {
+                environment.getToolOutput().flush();
+            }
+        }
+    }
+
+    /**
+     * Parses args without running the tool and exiting the JVM
+     *
+     * @return the exit status of the parsing, OK if the tool may run with args
+     */
+    public int parseHosted(String... argv) {
+        return hosted(() -> {
+            parseArgs(argv);
+            return Environment.OK;
+        });
+    }
+
+    /**
+     * Lets the tool take over the immutable results of parsing the same args by the other tool, e.g. the execution
+     * profile read by jdis, so the costly options are parsed once for all the tools run with the args.
+     */
+    public void reuseParsing(Tool<?> parsed) {
+    }
+
+    /**
+     * Releases the resources acquired by parsing args if the tool isn't run, e.g. the archives opened by the decoders
+     */
+    public void release() {
+    }
+
+    /**
+     * @return the counters of the runs by their names, e.g. the hits of the constant pool renderings memoized by jdis
+     */
+    public Map<String, Long> getCounters() {
+        return Map.of();
+    }
+
+    private int hosted(IntSupplier action) {
+        this.hosted = true;
+        try {
+            return action.getAsInt();
+        } catch (ExitException exit) {
+            return exit.status;
+        } catch (IllegalArgumentException iae) {
+            // the decoders leave parseArgs with the exception if an argument is invalid
+            if (environment.getLogger() instanceof DecompilerLogger logger) {
+                logger.flush();
+            }
+            return Environment.FAILED;
+        }
+    }
+
+    /**
+     * Exits the JVM with the status or, if the tool is hosted, returns it from {@link #runHosted}
+     */
+    protected void exit(int status) {
+        if (hosted) {
+            throw new ExitException(status);
+        }
+        System.exit(status);
+    }
+
+    /**
+     * @return the file name resolved against the working directory of the hosted tool
+     */
+    protected String resolve(String fileName) {
+        if (workingDirectory == null || fileName.matches("^[A-Za-z]+:.*") || new File(fileName).isAbsolute()) {
+            return fileName;
+        }
+        return workingDirectory.resolve(fileName).toString();
+    }
+
+    /**
+     * @return the dual stream log writing to stdout and stderr of the tool
+     */
+    protected DualStreamToolOutput getDualStreamLog() {
+        return new DualOutputStreamOutput(stdout, stderr);
+    }
+
     protected void setFSDestination(FSOutput.FSDestination destination, int index, String... argv) {
         File file;
         if ((index) >= argv.length) {
@@ -76,7 +200,7 @@ public abstract class Tool<T extends Environment<? extends ToolLogger>> {
             usage();
             throw new IllegalArgumentException();
         }
-        String fname = argv[index];
+        String fname = resolve(argv[index]);
         file = new File(fname);
         if (destination == DIR && !file.exists()) {
             environment.error("err.does_not_exist", fname);
@@ -94,6 +218,28 @@ public abstract class Tool<T extends Environment<? extends ToolLogger>> {
         }
     }
 
+    /**
+     * Sets the number of threads processing the input files, 0 means the number of available processors.
+     */
+    protected void setThreads(int index, String... argv) {
+        if (index >= argv.length) {
+            environment.error("err.j_requires_argument");
+            usage();
+            throw new IllegalArgumentException();
+        }
+        try {
+            int value = Integer.parseInt(argv[index]);
+            if (value < 0) {
+                throw new NumberFormatException();
+            }
+            threads = (value == 0) ? Runtime.getRuntime().availableProcessors() : value;
+        } catch (NumberFormatException nfe) {
+            environment.error("err.j_invalid_argument", argv[index]);
+            usage();
+            throw new IllegalArgumentException();
+        }
+    }
+
     protected void addStdIn() {
         for (ToolInput toolInput : fileList) {
             if (toolInput instanceof StdinInput) {
@@ -101,6 +247,56 @@ public abstract class Tool<T extends Environment<? extends ToolLogger>> {
                 return;
             }
         }
-        fileList.add(new StdinInput());
+        fileList.add(new StdinInput(stdin));
+    }
+
+    /**
+     * Sets the jar or zip file where to write the classes
+     */
+    protected void setZipDestination(int index, String... argv) {
+        if (index >= argv.length) {
+            environment.error("err.zip_requires_argument");
+            usage();
+            throw new IllegalArgumentException();
+        }
+        File file = new File(resolve(argv[index])).getAbsoluteFile();
+        if (!file.getParentFile().exists()) {
+            environment.error("err.does_not_exist", file.getParent());
+            throw new IllegalArgumentException();
+        }
+        zipOutput = new ZipOutput(file).setStored(storedZipEntries);
+        environment.setToolOutput(zipOutput);
+    }
+
+    /**
+     * Stores the entries of the jar or zip file uncompressed
+     */
+    protected void setStoredZipEntries() {
+        storedZipEntries = true;
+        if (zipOutput != null) {
+            zipOutput.setStored(true);
+        }
+    }
+
+    /**
+     * Completes the jar or zip file the classes are written to if it is set
+     *
+     * @throws IOException if the file can't be written
+     */
+    protected void closeZipDestination() throws IOException {
+        if (zipOutput != null) {
+            zipOutput.close();
+        }
+    }
+
+    // Unwinds the hosted tool to runHosted(), which returns the status
+    private static class ExitException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        ExitException(int status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,9 +28,9 @@ import org.openjdk.asmtools.util.I18NResourceBundle;
 
 import java.io.IOException;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -44,16 +44,11 @@ public abstract class ToolLogger implements ILogger {
     protected boolean strictWarnings = false;        // consider warnings as errors
 
     class ToolResources {
-        private final static HashMap<String, I18NResourceBundle> resources = new HashMap<>();
+        // The bundles are shared by loggers of all tools running concurrently
+        private final static ConcurrentHashMap<String, I18NResourceBundle> resources = new ConcurrentHashMap<>();
 
         public ToolResources(String programName, Class cls) {
-            if (!ToolResources.resources.containsKey(programName)) {
-                ToolResources.resources.put(programName, I18NResourceBundle.getBundleForClass(cls));
-            }
-        }
-
-        public void setWarn(boolean value) {
-            ToolResources.resources.get(ToolLogger.this.programName).setWarn(value);
+            ToolResources.resources.computeIfAbsent(programName, name -> I18NResourceBundle.getBundleForClass(cls));
         }
 
         public String getString(String id, Object... args) {
@@ -92,13 +87,8 @@ public abstract class ToolLogger implements ILogger {
 
     @Override
     public String getResourceString(String id, Object... args) {
-        String resString;
-        toolResources.setWarn(false);
-        try {
-            resString = toolResources.getString(id, args);
-        } finally {
-            toolResources.setWarn(true);
-        }
+        // The bundle is shared, so a missing key is checked upfront instead of switching its warnings off and on.
+        String resString = (id != null && toolResources.containsKey(id)) ? toolResources.getString(id, args) : null;
         if (resString == null || resString.equals(id)) {
             resString = sharedI18n.getString(id, args);
         }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.inputs;
+
+import org.openjdk.asmtools.common.Environment;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * The entry of an {@link ArchiveInput}. The entry is read directly from the archive each time the input is requested.
+ */
+public class ArchiveEntryInput implements ToolInput {
+
+    private final String name;
+    private final Path path;
+    private boolean detailedInput = false;
+    private MessageDigest md = null;
+    private int size = 0;
+
+    ArchiveEntryInput(String name, Path path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Collection<String> readAllLines() throws IOException {
+        return Files.readAllLines(path);
+    }
+
+    @Override
+    public boolean isDetailedInput() {
+        return detailedInput;
+    }
+
+    @Override
+    public ArchiveEntryInput setDetailedInput(boolean detailedInput) {
+        this.detailedInput = detailedInput;
+        return this;
+    }
+
+    @Override
+    public MessageDigest getMessageDigest() {
+        return md;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public DataInputStream getDataInputStream(Optional<Environment> logger) throws IOException {
+        InputStream is = new BufferedInputStream(Files.newInputStream(path));
+        if (detailedInput) {
+            try {
+                size = (int) Files.size(path);
+                md = MessageDigest.getInstance("SHA-256");
+                return new DataInputStream(new DigestInputStream(is, md));
+            } catch (NoSuchAlgorithmException e) {
+                is.close();
+                throw new RuntimeException(e);
+            }
+        }
+        return new DataInputStream(is);
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
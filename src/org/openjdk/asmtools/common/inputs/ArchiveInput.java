@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.inputs;
+
+import org.openjdk.asmtools.common.Glob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The archive of class files: a jar, zip or jmod file, or a path in the run-time image like jrt:/, jrt:/java.base or
+ * jrt:/java.base/java/lang.
+ * <p>
+ * The archive enumerates the entries passing an {@link EntryFilter} as {@link ArchiveEntryInput}s that read
+ * the entries straight from the archive, nothing is extracted on a disk.
+ * The entries can be read until the archive is closed.
+ */
+public class ArchiveInput implements Closeable {
+
+    public static final String JRT_PREFIX = "jrt:/";
+    private static final List<String> ARCHIVE_SUFFIXES = List.of(".jar", ".zip", ".jmod");
+
+    private final String name;
+    // either a zip file system or the shared jrt file system
+    private final FileSystem fileSystem;
+    private final boolean runtimeImage;
+    // the directory the entry names are relative to
+    private final Path base;
+    // the directory or the entry the enumeration starts from
+    private final Path start;
+
+    private ArchiveInput(String name, FileSystem fileSystem, boolean runtimeImage, Path base, Path start) {
+        this.name = name;
+        this.fileSystem = fileSystem;
+        this.runtimeImage = runtimeImage;
+        this.base = base;
+        this.start = start;
+    }
+
+    /**
+     * @param name the file name or jrt:/ path
+     * @return true if the name denotes an archive of class files
+     */
+    public static boolean isArchive(String name) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        return name.startsWith(JRT_PREFIX) || ARCHIVE_SUFFIXES.stream().anyMatch(lowerCaseName::endsWith);
+    }
+
+    /**
+     * Opens the archive
+     *
+     * @param name the jar, zip or jmod file name, or jrt:/ path
+     * @return the opened archive
+     * @throws IOException if the archive doesn't exist or is not readable
+     */
+    public static ArchiveInput open(String name) throws IOException {
+        if (name.startsWith(JRT_PREFIX)) {
+            FileSystem jrt = FileSystems.getFileSystem(URI.create(JRT_PREFIX));
+            Path modules = jrt.getPath("/modules");
+            Path start = modules.resolve(name.substring(JRT_PREFIX.length()));
+            if (Files.notExists(start)) {
+                throw new IOException("No such path in the run-time image: " + name);
+            }
+            return new ArchiveInput(name, jrt, true, modules, start);
+        }
+        // jmod files start with the 4 bytes header followed by zip content, zipfs skips it as any prepended data
+        FileSystem zip = FileSystems.newFileSystem(Path.of(name));
+        Path root = zip.getPath("/");
+        return new ArchiveInput(name, zip, false, root, root);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Enumerates the entries of the archive in the order of their names
+     *
+     * @param filter the filter of entry names
+     * @return the inputs reading the entries
+     * @throws IOException if the archive can't be read
+     */
+    public List<ToolInput> getEntries(EntryFilter filter) throws IOException {
+        Predicate<Path> accepted = filter::accepts;
+        List<ToolInput> entries = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(start)) {
+            paths.filter(Files::isRegularFile).
+                    map(base::relativize).
+                    filter(accepted).
+                    sorted(Comparator.comparing(Path::toString)).
+                    forEach(entry -> entries.add(new ArchiveEntryInput(getEntryName(entry), base.resolve(entry))));
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the jrt file system of the running JDK is shared and can't be closed
+        if (!runtimeImage) {
+            fileSystem.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // jrt:/<module>/<path> for the run-time image entries and <archive>!/<path> for the others
+    private String getEntryName(Path entry) {
+        return runtimeImage ? JRT_PREFIX + entry : name + "!/" + entry;
+    }
+
+    /**
+     * Include and exclude globs for names of archive entries.
+     * The names are relative to the archive root, i.e. java/lang/Object.class in a jar, classes/java/lang/Object.class
+     * in a jmod file or java.base/java/lang/Object.class in the run-time image.
+     * <p>
+     * An entry passes the filter if its name matches any of include globs and none of exclude globs.
+     * If no include globs are set the class files are included. The globs follow the {@link Glob} syntax.
+     */
+    public static class EntryFilter {
+
+        private static final String DEFAULT_INCLUDE = "**.class";
+
+        private static final List<Pattern> DEFAULT_INCLUDES = List.of(Glob.toPattern(DEFAULT_INCLUDE));
+
+        private final List<Pattern> includes = new ArrayList<>();
+        private final List<Pattern> excludes = new ArrayList<>();
+
+        /**
+         * @param glob the glob of names of entries to include
+         * @return this filter
+         * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+         */
+        public EntryFilter include(String glob) {
+            includes.add(Glob.toPattern(glob));
+            return this;
+        }
+
+        /**
+         * @param glob the glob of names of entries to exclude
+         * @return this filter
+         * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+         */
+        public EntryFilter exclude(String glob) {
+            excludes.add(Glob.toPattern(glob));
+            return this;
+        }
+
+        /**
+         * @param entry the name of the entry relative to the archive root
+         * @return true if the entry passes the filter
+         */
+        boolean accepts(Path entry) {
+            String name = entry.toString();
+            return anyOf(includes.isEmpty() ? DEFAULT_INCLUDES : includes, name) && !anyOf(excludes, name);
+        }
+
+        private static boolean anyOf(List<Pattern> patterns, String name) {
+            return patterns.stream().anyMatch(pattern -> pattern.matcher(name).matches());
+        }
+    }
+}
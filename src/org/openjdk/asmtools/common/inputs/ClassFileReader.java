@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.inputs;
+
+import org.openjdk.asmtools.common.Environment;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The reader of class file data: the bytes of a class file with a cursor.
+ * <p>
+ * The class file is read into an array once and then all u1, u2, u4 and u8 items are taken from the array directly,
+ * hence decoding doesn't go through layers of streams. The reader throws {@link EOFException} if the data ends earlier
+ * than expected as {@link DataInputStream} does.
+ * <p>
+ * The end of data is able to be narrowed temporarily by {@link #enter(int)} to read a nested structure like an attribute.
+ */
+public class ClassFileReader implements DataInput {
+
+    private final byte[] bytes;
+    private int position;
+    private int limit;
+    // the limits saved by enter()
+    private int[] savedLimits = new int[8];
+    private int depth = 0;
+
+    public ClassFileReader(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public ClassFileReader(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Reads the whole input into a reader
+     *
+     * @param toolInput   the input containing a class file
+     * @param environment the environment reporting errors of the input
+     * @return the reader of the class file data
+     */
+    public static ClassFileReader of(ToolInput toolInput, Optional<Environment> environment) throws IOException, URISyntaxException {
+        try (DataInputStream dis = toolInput.getDataInputStream(environment)) {
+            return new ClassFileReader(dis.readAllBytes());
+        }
+    }
+
+    /**
+     * @return the offset of the next byte to read
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * @return a new reader of the same data positioned at the offset, the data isn't narrowed by {@link #enter(int)}
+     */
+    public ClassFileReader at(int offset) {
+        return new ClassFileReader(bytes, offset, bytes.length - offset);
+    }
+
+    /**
+     * @return the number of bytes left to read
+     */
+    public int available() {
+        return limit - position;
+    }
+
+    /**
+     * Narrows the data to the next {@code range} bytes until {@link #leave()} is called
+     */
+    public void enter(int range) {
+        if (depth == savedLimits.length) {
+            savedLimits = Arrays.copyOf(savedLimits, depth * 2);
+        }
+        savedLimits[depth++] = limit;
+        if (range > Integer.MAX_VALUE - position) {
+            // the range exceeds any class file, there is nothing to read within it
+            limit = position;
+        } else if (position + range < limit) {
+            limit = position + range;
+        }
+    }
+
+    /**
+     * Skips the rest of the data narrowed by {@link #enter(int)} and restores the end of data
+     */
+    public void leave() {
+        position = limit;
+        limit = savedLimits[--depth];
+    }
+
+    private int next(int length) throws EOFException {
+        int current = position;
+        if (length > limit - current) {
+            position = limit;
+            throw new EOFException();
+        }
+        position = current + length;
+        return current;
+    }
+
+    @Override
+    public void readFully(byte[] buffer) throws IOException {
+        readFully(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public void readFully(byte[] buffer, int offset, int length) throws IOException {
+        System.arraycopy(bytes, next(length), buffer, offset, length);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, limit - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return bytes[next(1)] != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return bytes[next(1)];
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return bytes[next(1)] & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return (short) readUnsignedShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        int i = next(2);
+        return ((bytes[i] & 0xFF) << 8) | (bytes[i + 1] & 0xFF);
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readUnsignedShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        int i = next(4);
+        return ((bytes[i] & 0xFF) << 24) | ((bytes[i + 1] & 0xFF) << 16) |
+                ((bytes[i + 2] & 0xFF) << 8) | (bytes[i + 3] & 0xFF);
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Skips a string in modified UTF-8 format checking its bytes as {@link #readUTF()} does, but without decoding it
+     *
+     * @throws UTFDataFormatException if the bytes aren't a valid modified UTF-8 string
+     */
+    public void skipUTF() throws IOException {
+        int length = readUnsignedShort();
+        int start = next(length);
+        int count = 0;
+        while (count < length) {
+            int c = bytes[start + count] & 0xFF;
+            switch (c >> 4) {
+                case 0, 1, 2, 3, 4, 5, 6, 7 -> count++;                 // 0xxxxxxx
+                case 12, 13 -> {                                        // 110x xxxx 10xx xxxx
+                    count += 2;
+                    if (count > length) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    if ((bytes[start + count - 1] & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("malformed input around byte " + count);
+                    }
+                }
+                case 14 -> {                                            // 1110 xxxx 10xx xxxx 10xx xxxx
+                    count += 3;
+                    if (count > length) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    if ((bytes[start + count - 2] & 0xC0) != 0x80 || (bytes[start + count - 1] & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("malformed input around byte " + (count - 1));
+                    }
+                }
+                default ->                                              // 10xx xxxx, 1111 xxxx
+                        throw new UTFDataFormatException("malformed input around byte " + count);
+            }
+        }
+    }
+
+    /**
+     * Reads a line as {@link DataInputStream#readLine()} does: every byte is a character, and the line ends with
+     * "\n", "\r", "\r\n" or the end of data.
+     *
+     * @return the line without its terminator, or null if the data ends before the line starts
+     */
+    @Override
+    public String readLine() {
+        if (position >= limit) {
+            return null;
+        }
+        int start = position, end = start;
+        while (end < limit && bytes[end] != '\n' && bytes[end] != '\r') {
+            end++;
+        }
+        position = end;
+        if (end < limit) {
+            position += bytes[end] == '\r' && end + 1 < limit && bytes[end + 1] == '\n' ? 2 : 1;
+        }
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
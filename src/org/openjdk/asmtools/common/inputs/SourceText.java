@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.inputs;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The text of a jasm or jcod source file. It is read once and then shared by the scanner (TextInput)
+ * and the diagnostics of the compiler (CompilerLogger).
+ * <p>
+ * The lines are separated by '\n', '\r' or "\r\n" as the scanners count them. The start of every line
+ * is indexed when the text is read, hence a line and a position within the line are found in constant time.
+ */
+public final class SourceText {
+
+    public static final SourceText EMPTY = new SourceText("");
+
+    private final String text;
+    // lineStarts[i] is the position of the first character of the line i + 1, lineStarts[lineCount] is the length of the text
+    private final int[] lineStarts;
+    private final int lineCount;
+
+    public SourceText(String text) {
+        this.text = text;
+        int[] starts = new int[64];
+        int count = 0;
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            if (count + 1 == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[count++] = i;
+            i = nextLine(i);
+        }
+        starts[count] = length;
+        this.lineStarts = starts;
+        this.lineCount = count;
+    }
+
+    /**
+     * Reads the text encoded in UTF-8 and closes the stream
+     */
+    public static SourceText read(DataInputStream dataInputStream) throws IOException {
+        try (dataInputStream) {
+            return new SourceText(new String(dataInputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return the number of lines, a line separator at the end of the text doesn't start a new line
+     */
+    public int lineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @param index the line index: line number - 1
+     * @return the position of the first character of the line in the text
+     */
+    public int lineStart(int index) {
+        return lineStarts[index];
+    }
+
+    /**
+     * @param index the line index: line number - 1
+     * @return the line without the line separator
+     */
+    public String line(int index) {
+        int start = lineStarts[index], end = lineStarts[index + 1];
+        if (end > start && text.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end > start && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    // Returns the position following the line separator of the line starting at the position
+    private int nextLine(int position) {
+        int length = text.length();
+        while (position < length) {
+            char ch = text.charAt(position++);
+            if (ch == '\n') {
+                break;
+            } else if (ch == '\r') {
+                if (position < length && text.charAt(position) == '\n') {
+                    position++;
+                }
+                break;
+            }
+        }
+        return position;
+    }
+}
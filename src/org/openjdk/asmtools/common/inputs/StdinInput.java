@@ -22,10 +22,16 @@
  */
 package org.openjdk.asmtools.common.inputs;
 
+import java.io.InputStream;
+
 public class StdinInput extends StreamInput {
 
     public StdinInput() {
-        super(System.in);
+        this(System.in);
+    }
+
+    public StdinInput(InputStream in) {
+        super(in);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,10 +22,6 @@
  */
 package org.openjdk.asmtools.common.inputs;
 
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-
 /**
  * Base class for JasmEnvironment.InputFile and
  * JcoderEnvironment.InputFile that read the jasm, jcod text files
@@ -40,11 +36,8 @@ public abstract class TextInput {
     // Buffer to keep the text file content
     protected final String strData;
 
-    public TextInput(DataInputStream dataInputStream) throws IOException {
-        byte[] data = new byte[dataInputStream.available()];
-        dataInputStream.read(data);
-        strData = new String(data, StandardCharsets.UTF_8);
-        dataInputStream.close();
+    public TextInput(SourceText source) {
+        strData = source.text();
     }
 
     public abstract int readUTF();
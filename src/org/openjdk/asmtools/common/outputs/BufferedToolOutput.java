@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.outputs;
+
+import org.openjdk.asmtools.common.Environment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The output that records what a tool produces for one input, so that a worker thread is able to process the input
+ * while the results are written to the real output later, in the order of inputs.
+ * <p>
+ * {@link #replay(ToolOutput, Environment)} repeats the recorded calls against the real output.
+ */
+public class BufferedToolOutput extends NamedToolOutput {
+
+    private final List<Event> events = new ArrayList<>();
+    // the text printed since the last printlns
+    private final StringBuilder line = new StringBuilder();
+
+    @Override
+    public void startClass(String fullyQualifiedName, Optional<String> suffix, Environment logger) throws IOException {
+        super.startClass(fullyQualifiedName, suffix, logger);
+        closeLine();
+        events.add(new StartClass(fullyQualifiedName, suffix));
+    }
+
+    @Override
+    public void finishClass(String fullyQualifiedName) throws IOException {
+        super.finishClass(fullyQualifiedName);
+        closeLine();
+        events.add(new FinishClass(fullyQualifiedName));
+    }
+
+    @Override
+    public void printlns(String line) {
+        this.line.append(line);
+        events.add(new Line(this.line.toString(), true));
+        this.line.setLength(0);
+    }
+
+    @Override
+    public void prints(String line) {
+        this.line.append(line);
+    }
+
+    @Override
+    public void prints(char line) {
+        this.line.append(line);
+    }
+
+    @Override
+    public void flush() {
+        closeLine();
+        events.add(Flush.FLUSH);
+    }
+
+    @Override
+    public DataOutputStream getDataOutputStream() {
+        closeLine();
+        Bytes bytes = new Bytes(new ByteArrayOutputStream(1024));
+        events.add(bytes);
+        return new DataOutputStream(bytes.stream());
+    }
+
+    @Override
+    public String getName() {
+        return "buffer";
+    }
+
+    /**
+     * Writes the recorded output into the output
+     *
+     * @param toolOutput  the real output
+     * @param environment the environment of the tool the output belongs to
+     * @throws IOException if the output can't be written
+     */
+    public void replay(ToolOutput toolOutput, Environment<?> environment) throws IOException {
+        closeLine();
+        for (Event event : events) {
+            event.replay(toolOutput, environment);
+        }
+        events.clear();
+    }
+
+    private void closeLine() {
+        if (!line.isEmpty()) {
+            events.add(new Line(line.toString(), false));
+            line.setLength(0);
+        }
+    }
+
+    private interface Event {
+        void replay(ToolOutput toolOutput, Environment<?> environment) throws IOException;
+    }
+
+    private record StartClass(String fullyQualifiedName, Optional<String> suffix) implements Event {
+        @Override
+        public void replay(ToolOutput toolOutput, Environment<?> environment) throws IOException {
+            toolOutput.startClass(fullyQualifiedName, suffix, environment);
+        }
+    }
+
+    private record FinishClass(String fullyQualifiedName) implements Event {
+        @Override
+        public void replay(ToolOutput toolOutput, Environment<?> environment) throws IOException {
+            toolOutput.finishClass(fullyQualifiedName);
+        }
+    }
+
+    private record Line(String text, boolean newLine) implements Event {
+        @Override
+        public void replay(ToolOutput toolOutput, Environment<?> environment) {
+            if (newLine) {
+                toolOutput.printlns(text);
+            } else {
+                toolOutput.prints(text);
+            }
+        }
+    }
+
+    private record Bytes(ByteArrayOutputStream stream) implements Event {
+        @Override
+        public void replay(ToolOutput toolOutput, Environment<?> environment) throws IOException {
+            try (DataOutputStream dos = toolOutput.getDataOutputStream()) {
+                stream.writeTo(dos);
+            }
+        }
+    }
+
+    private enum Flush implements Event {
+        FLUSH;
+
+        @Override
+        public void replay(ToolOutput toolOutput, Environment<?> environment) {
+            toolOutput.flush();
+        }
+    }
+}
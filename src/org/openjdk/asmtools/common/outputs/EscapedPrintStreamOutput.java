@@ -30,17 +30,23 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OutputStream;
 
+/**
+ * The text written to this output is buffered and flushed to the stream at the end of every class,
+ * or when the output is flushed.
+ */
 public class EscapedPrintStreamOutput extends PrintWriterOutput {
 
     private final OutputStream originalStream;
 
     public EscapedPrintStreamOutput(OutputStream os) {
-        super(new uEscWriter(os));
+        super(new uEscWriter(os), false);
         this.originalStream = os;
     }
 
     @Override
     public DataOutputStream getDataOutputStream() throws FileNotFoundException {
+        // the binary output must follow the text written before it
+        os.flush();
         return new DataOutputStream(new BufferedOutputStream(originalStream));
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025, Oracle, Red Hat  and/or theirs affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle, Red Hat  and/or theirs affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -136,7 +136,7 @@ public class FSOutput extends NamedToolOutput {
             fileName = fileName + fileExtension.orElse("");
         }
         if (dir == null) {
-            environment.traceln("writing to %s %s".formatted(packageName, fileName));
+            environment.traceln("writing to %s %s", packageName, fileName);
             file = new File(packageName, fileName);
         } else {
             file = Paths.get(dir.getPath(), packageName, fileName).toFile();
@@ -42,7 +42,11 @@ public class PrintWriterOutput extends NamedToolOutput {
 
     public PrintWriterOutput(Writer os) {
         //although it is usually System.out, it is set from Environment, or custom
-        this.os = new PrintWriter(os, true);
+        this(os, true);
+    }
+
+    public PrintWriterOutput(Writer os, boolean autoFlush) {
+        this.os = new PrintWriter(os, autoFlush);
     }
 
     @Override
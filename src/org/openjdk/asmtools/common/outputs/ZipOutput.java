@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.outputs;
+
+import org.openjdk.asmtools.common.Environment;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A concrete implementation of {@link NamedToolOutput} that writes every class as an entry of a jar or zip file.
+ * <p>
+ * The entry name is the class name followed by the suffix, the package path is dropped if the environment
+ * ignores packages. The entries are either deflated while they are written or stored uncompressed,
+ * and all of them get the same timestamp, hence the same classes result in the same file.
+ * The file is created when the first class starts and is completed by {@link #close()}.
+ * <p>
+ * A class written twice replaces the earlier entry, as a class file written twice into a directory does:
+ * the file written so far is rewritten without the earlier entry, and the new one is appended.
+ */
+public class ZipOutput extends NamedToolOutput implements Closeable {
+
+    // the timestamp of the entries, the earliest one the zip format is able to keep
+    public static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private final File file;
+    private boolean stored = false;
+    private ZipOutputStream zos;
+    // the names of the entries written to the file
+    private final Set<String> entryNames = new HashSet<>();
+    private ZipEntry entry;
+    // the body of the current stored entry, its size and CRC are required before the body is written
+    private ByteArrayOutputStream storedBody;
+    private OutputStream entryStream;
+    private PrintWriter pw;
+
+    public ZipOutput(File file) {
+        this.file = file;
+    }
+
+    /**
+     * @param stored true if the entries are stored uncompressed, otherwise they are deflated
+     * @return this output
+     */
+    public ZipOutput setStored(boolean stored) {
+        this.stored = stored;
+        return this;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public boolean isReady() {
+        return entryStream != null;
+    }
+
+    @Override
+    public void startClass(String fullyQualifiedName, Optional<String> fileExtension, Environment environment) throws IOException {
+        super.startClass(fullyQualifiedName, fileExtension, environment);
+        if (zos == null) {
+            zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        }
+        String entryName = environment.isIgnorePackage() ?
+                fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('/') + 1) :
+                fullyQualifiedName;
+        String destinationFileName = this.getDestinationFileName();
+        if (destinationFileName != null) {
+            entryName = entryName.substring(0, entryName.lastIndexOf('/') + 1) + destinationFileName;
+        }
+        entry = newEntry(entryName + fileExtension.orElse(""));
+        if (entryNames.add(entry.getName())) {
+            environment.traceln("writing %s!/%s", file.getPath(), entry.getName());
+        } else {
+            environment.traceln("replacing %s!/%s", file.getPath(), entry.getName());
+            removeEntry(entry.getName());
+        }
+        if (stored) {
+            storedBody = new ByteArrayOutputStream(1024);
+            entryStream = storedBody;
+        } else {
+            zos.putNextEntry(entry);
+            entryStream = zos;
+        }
+        pw = new PrintWriter(new OutputStreamWriter(new EntryOutputStream(entryStream), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void finishClass(String fullyQualifiedName) throws IOException {
+        super.finishClass(fullyQualifiedName);
+        if (entry == null) {
+            return;
+        }
+        pw.flush();
+        if (stored) {
+            byte[] body = storedBody.toByteArray();
+            setStoredBody(entry, body.length, crc(body));
+            zos.putNextEntry(entry);
+            zos.write(body);
+            storedBody = null;
+        }
+        zos.closeEntry();
+        entry = null;
+        entryStream = null;
+        pw = null;
+    }
+
+    @Override
+    public void printlns(String line) {
+        pw.println(line);
+    }
+
+    @Override
+    public void prints(String line) {
+        pw.print(line);
+    }
+
+    @Override
+    public void prints(char line) {
+        pw.print(line);
+    }
+
+    @Override
+    public void flush() {
+        if (pw != null) {
+            pw.flush();
+        }
+    }
+
+    /**
+     * @return the stream of the current entry, closing it doesn't close the file
+     */
+    @Override
+    public DataOutputStream getDataOutputStream() {
+        flush();
+        return new DataOutputStream(new EntryOutputStream(entryStream));
+    }
+
+    /**
+     * Completes the file
+     *
+     * @throws IOException if the file can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (zos != null) {
+            zos.close();
+            zos = null;
+        }
+    }
+
+    /**
+     * Rewrites the file written so far without the entry, the entries following it move up
+     *
+     * @throws IOException if the file can't be rewritten
+     */
+    private void removeEntry(String name) throws IOException {
+        zos.close();
+        Path written = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), null);
+        try {
+            Files.move(file.toPath(), written, StandardCopyOption.REPLACE_EXISTING);
+            zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            try (ZipFile zipFile = new ZipFile(written.toFile())) {
+                for (ZipEntry writtenEntry : Collections.list(zipFile.entries())) {
+                    if (!writtenEntry.getName().equals(name)) {
+                        ZipEntry copy = newEntry(writtenEntry.getName());
+                        if (stored) {
+                            setStoredBody(copy, writtenEntry.getSize(), writtenEntry.getCrc());
+                        }
+                        zos.putNextEntry(copy);
+                        try (InputStream body = zipFile.getInputStream(writtenEntry)) {
+                            body.transferTo(zos);
+                        }
+                        zos.closeEntry();
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(written);
+        }
+    }
+
+    private ZipEntry newEntry(String name) {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTimeLocal(ENTRY_TIME);
+        entry.setMethod(stored ? ZipEntry.STORED : ZipEntry.DEFLATED);
+        return entry;
+    }
+
+    private static void setStoredBody(ZipEntry entry, long size, long crc) {
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc);
+    }
+
+    private static long crc(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    @Override
+    public String getName() {
+        return file.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    // The stream of the entry, the tools close the streams they write a class to
+    private static class EntryOutputStream extends FilterOutputStream {
+
+        EntryOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
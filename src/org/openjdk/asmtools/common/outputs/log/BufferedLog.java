@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common.outputs.log;
+
+import org.openjdk.asmtools.common.outputs.ToolOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The log that keeps the messages of a tool processing one input on a worker thread.
+ * {@link #replay(DualStreamToolOutput)} writes them into the real log in the order they were logged,
+ * keeping the stdout and stderr parts apart.
+ */
+public class BufferedLog extends NamedDualStreamToolOutput {
+
+    private final List<Consumer<DualStreamToolOutput>> events = new ArrayList<>();
+
+    @Override
+    public void printlns(String line) {
+        events.add(log -> log.printlns(line));
+    }
+
+    @Override
+    public void prints(String line) {
+        events.add(log -> log.prints(line));
+    }
+
+    @Override
+    public void prints(char line) {
+        events.add(log -> log.prints(line));
+    }
+
+    @Override
+    public void printlne(String line) {
+        events.add(log -> log.printlne(line));
+    }
+
+    @Override
+    public void printe(String line) {
+        events.add(log -> log.printe(line));
+    }
+
+    @Override
+    public void printe(char line) {
+        events.add(log -> log.printe(line));
+    }
+
+    @Override
+    public void stacktrace(Throwable ex) {
+        events.add(log -> log.stacktrace(ex));
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public ToolOutput getSToolObject() {
+        return this;
+    }
+
+    @Override
+    public ToolOutput getEToolObject() {
+        return this;
+    }
+
+    /**
+     * Writes the kept messages into the log
+     *
+     * @param log the real log
+     */
+    public void replay(DualStreamToolOutput log) {
+        events.forEach(event -> event.accept(log));
+        events.clear();
+        log.flush();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,7 +24,7 @@ package org.openjdk.asmtools.common.structure;
 
 import org.openjdk.asmtools.jasm.ClassFileConst;
 
-import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,8 +96,10 @@ public enum EAttribute {
     private final String printVal;
     private final String parseKey;
     private final ClassFileConst.ConstType constType;
-    private static HashMap<String, EAttribute> parseKeyToTags;
-    private static HashMap<Integer, EAttribute> valueToTags;
+    private static final Map<String, EAttribute> parseKeyToTags = Stream.of(EAttribute.values()).
+            collect(Collectors.toMap(EAttribute::parseKey, Function.identity()));
+    private static final Map<Integer, EAttribute> valueToTags = Stream.of(EAttribute.values()).
+            collect(Collectors.toMap(EAttribute::value, Function.identity()));
 
     EAttribute(Integer value, String printValue, String parseKey, ClassFileConst.ConstType constType) {
         this.value = value;
@@ -132,11 +134,6 @@ public enum EAttribute {
     }
 
     public static EAttribute get(int value) {
-        if (valueToTags == null) {
-            valueToTags = (HashMap<Integer, EAttribute>) Stream.
-                    of(EAttribute.values()).
-                    collect(Collectors.toMap(EAttribute::value, Function.identity()));
-        }
         EAttribute tg = valueToTags.get(value);
         if (tg == null) {
             tg = EAttribute.ATT_Unrecognized;
@@ -145,11 +142,6 @@ public enum EAttribute {
     }
 
     public static EAttribute get(String parseKey) {
-        if (parseKeyToTags == null) {
-            parseKeyToTags = (HashMap<String, EAttribute>) Stream.
-                    of(EAttribute.values()).
-                    collect(Collectors.toMap(EAttribute::parseKey, Function.identity()));
-        }
         EAttribute tg = parseKeyToTags.get(parseKey);
         if (tg == null) {
             tg = EAttribute.ATT_Unrecognized;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -123,17 +123,17 @@ public enum EModifier {
     private static final EModifier[] MM_MODULE_EXPORTS = {ACC_SYNTHETIC, ACC_MANDATED};
     private static final EModifier[] MM_MODULE_OPENS = {ACC_SYNTHETIC, ACC_MANDATED};
     // ToString converters
-    public static String NAMES_DELIMITER = ", ";
-    public static String NAMES_SUFFIX = "";
-    public static String KEYWORDS_DELIMITER = " ";
-    public static String KEYWORDS_SUFFIX = " ";
+    public static final String NAMES_DELIMITER = ", ";
+    public static final String NAMES_SUFFIX = "";
+    public static final String KEYWORDS_DELIMITER = " ";
+    public static final String KEYWORDS_SUFFIX = " ";
     private final int flag;
     private final String keyword;
     private final Set<ClassFileContext> contexts;
     private int contextMask = 0;
 
-    // Externally changed switchers
-    private static ClassFileContext globalContext = ORDINARY;
+    // Externally changed switchers, confined to the thread processing a class
+    private static final ThreadLocal<ClassFileContext> globalContext = ThreadLocal.withInitial(() -> ORDINARY);
 
     EModifier(int flag, String keyword, ClassFileContext... contexts) {
         this.flag = flag;
@@ -148,11 +148,11 @@ public enum EModifier {
     }
 
     public static void setGlobalContext(ClassFileContext globalContext) {
-        EModifier.globalContext = globalContext;
+        EModifier.globalContext.set(globalContext);
     }
 
     public static ClassFileContext GlobalContext() {
-        return EModifier.globalContext;
+        return EModifier.globalContext.get();
     }
 
     // Wrappers
@@ -230,7 +230,7 @@ public enum EModifier {
             if ((flags & mod.flag) != 0) {
                 flags &= ~mod.flag;
                 ClassFileContext context = mod.getGlobalContext();
-                if( globalContext != context && context != ORDINARY) {
+                if( GlobalContext() != context && context != ORDINARY) {
                     notPermitted |= mod.flag;
                 }
             }
@@ -427,10 +427,10 @@ public enum EModifier {
                     // and the flags no longer had any effect.
                     // still we have to keep it in here (if it was here), as if the new class is used for hotswap, it s absence would casue
                     // java.lang.UnsupportedOperationException: class redefinition failed: attempted to change the class modifiers
-                    flags = addTo(list, flags, isName, (globalContext == VALUE_OBJECTS) ? ACC_IDENTITY : ACC_SUPER);
+                    flags = addTo(list, flags, isName, (GlobalContext() == VALUE_OBJECTS) ? ACC_IDENTITY : ACC_SUPER);
                 }
                 case INNER_CLASS -> {
-                    if(globalContext == VALUE_OBJECTS) {
+                    if(GlobalContext() == VALUE_OBJECTS) {
                         flags = addTo(list, flags, isName, ACC_IDENTITY);
                     }
                 }
@@ -478,7 +478,7 @@ public enum EModifier {
             switch (context) {
                 case METHOD -> flags = addTo(list, flags, isName, ACC_STRICT);
                 case FIELD -> {
-                    if (globalContext == VALUE_OBJECTS) {
+                    if (GlobalContext() == VALUE_OBJECTS) {
                         flags = addTo(list, flags, isName, ACC_STRICT);
                     }
                 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,7 @@ import org.openjdk.asmtools.asmutils.FormatConsumer;
 import org.openjdk.asmtools.asmutils.Range;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -113,9 +113,12 @@ public class StackMap {
         ITEM_Object(7, "CP", "O"),                  // followed by 2-byte index of class name
         ITEM_NewObject(8, "at", "NO");              // followed by 2-byte ref to "new"
 
-        private static HashMap<String, VerificationType> printNameToType;
-        private static HashMap<String, VerificationType> parseKeyToType;
-        private static HashMap<Integer, VerificationType> tagToType;
+        private static final Map<String, VerificationType> printNameToType = Arrays.stream(values()).
+                collect(Collectors.toMap(VerificationType::printName, Function.identity()));
+        private static final Map<String, VerificationType> parseKeyToType = Arrays.stream(values()).
+                collect(Collectors.toMap(VerificationType::parseKey, Function.identity()));
+        private static final Map<Integer, VerificationType> tagToType = Arrays.stream(values()).
+                collect(Collectors.toMap(VerificationType::tag, Function.identity()));
         private final String printName;
         private final String parseKey;
         private Integer tag;
@@ -131,27 +134,15 @@ public class StackMap {
         }
 
         public static VerificationType getByPrintName(String printName) {
-            if (printNameToType == null) {
-                printNameToType = (HashMap<String, VerificationType>) Arrays.stream(VerificationType.values()).
-                        collect(Collectors.toMap(VerificationType::printName, Function.identity()));
-            }
             return printNameToType.get(printName);
         }
 
         public static VerificationType getByParseKey(String parseKey) {
-            if (parseKeyToType == null) {
-                parseKeyToType = (HashMap<String, VerificationType>) Arrays.stream(VerificationType.values()).
-                        collect(Collectors.toMap(VerificationType::parseKey, Function.identity()));
-            }
             VerificationType verificationType = parseKeyToType.get(parseKey);
             return verificationType == null ? VerificationType.ITEM_UNKNOWN : verificationType;
         }
 
         public static VerificationType get(int tag) {
-            if (tagToType == null) {
-                tagToType = (HashMap<Integer, VerificationType>) Arrays.stream(VerificationType.values()).
-                        collect(Collectors.toMap(VerificationType::tag, Function.identity()));
-            }
             return tagToType.get(tag);
         }
 
@@ -187,7 +178,8 @@ public class StackMap {
         APPEND_FRAME(252, 254, "append", true, false, false),
         FULL_FRAME(255, 255, "full", true, true, false);
 
-        private static HashMap<String, EntryType> tagNameToFrameType;
+        private static final Map<String, EntryType> tagNameToFrameType = Arrays.stream(values()).
+                collect(Collectors.toMap(EntryType::tagName, Function.identity()));
         private final Range<Integer> tagRange;
         private final String tagName;
         private final boolean localMap;
@@ -215,10 +207,6 @@ public class StackMap {
         }
 
         public static EntryType getByTagName(String tagName) {
-            if (tagNameToFrameType == null) {
-                tagNameToFrameType = (HashMap<String, EntryType>) Arrays.stream(EntryType.values()).
-                        collect(Collectors.toMap(EntryType::tagName, Function.identity()));
-            }
             EntryType type = tagNameToFrameType.get(tagName);
             return type == null ? EntryType.UNKNOWN_TYPE : type;
         }
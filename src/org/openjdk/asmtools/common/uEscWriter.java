@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,33 +25,131 @@ package org.openjdk.asmtools.common;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 
+/**
+ * Writes the characters to the output stream encoded in UTF-8. The bytes are collected in a buffer that is written
+ * when it is full or the writer is flushed; ASCII characters are copied to the buffer as they are.
+ * Unpaired surrogates are replaced with '?' as {@link String#getBytes} does, a surrogate pair may be split
+ * between two calls.
+ * <p>
+ * The writer isn't thread-safe: it is wrapped by a {@link java.io.PrintWriter} that synchronizes on it.
+ * Closing the writer flushes it but leaves the output stream open.
+ */
 public class uEscWriter extends Writer {
 
-    static final char[] hexTable = "0123456789ABCDEF".toCharArray();
-    OutputStream out;
-    byte[] tmpl;
+    private static final int BUFFER_SIZE = 8192;
+    // the longest encoded sequence: '?' of an unpaired high surrogate followed by 3 bytes, or a surrogate pair
+    private static final int MAX_SEQUENCE = 4;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count = 0;
+    // the high surrogate waiting for the low surrogate, 0 if none
+    private char highSurrogate = 0;
 
     public uEscWriter(OutputStream out) {
+        this(out, BUFFER_SIZE);
+    }
+
+    public uEscWriter(OutputStream out, int bufferSize) {
         this.out = out;
-        tmpl = new byte[6];
-        tmpl[0] = (byte) '\\';
-        tmpl[1] = (byte) 'u';
+        this.buffer = new byte[Math.max(bufferSize, MAX_SEQUENCE)];
     }
 
+    @Override
+    public void write(int c) throws IOException {
+        if (c < 0x80 && highSurrogate == 0) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = (byte) c;
+        } else {
+            encode((char) c);
+        }
+    }
 
     @Override
-    public synchronized void write(char[] cc, int ofs, int len) throws IOException {
-        byte[] b = String.copyValueOf(cc, ofs, len).getBytes(StandardCharsets.UTF_8);
-        out.write(b, ofs, b.length);
+    public void write(char[] cc, int ofs, int len) throws IOException {
+        for (int i = ofs, end = ofs + len; i < end; i++) {
+            char c = cc[i];
+            if (c < 0x80 && highSurrogate == 0) {
+                if (count == buffer.length) {
+                    flushBuffer();
+                }
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int ofs, int len) throws IOException {
+        for (int i = ofs, end = ofs + len; i < end; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                if (count == buffer.length) {
+                    flushBuffer();
+                }
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    private void encode(char c) throws IOException {
+        if (buffer.length - count < MAX_SEQUENCE) {
+            flushBuffer();
+        }
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[count++] = '?';
+        }
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
     }
 
     @Override
-    public void flush() {
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
     }
 
     @Override
-    public void close() {
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            write('?');
+        }
+        flush();
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,6 +51,10 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
     private final ArrayList<ConstCell<?>> pool = new ArrayList<>(40);
     public JasmEnvironment environment;
     public LinkedHashMap<ConstValue<?>, ConstCell<?>> ConstantPoolHashByValue = new LinkedHashMap<>(40);
+    // The cells of ConstantPoolHashByValue grouped by valueHash() in the order of the map while the pool is itemized
+    private HashMap<Integer, List<ConstCell<?>>> cellsByValueHash;
+    // The lowest indexes a vacant slot for a cell of size 1 or 2 may have, all slots below them are taken
+    private int vacantSlot = 1, vacantPairSlot = 1;
 
     private final CPVisitor indexFixerConstantPool = new CPVisitor() {
         @Override
@@ -274,6 +278,9 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
             for (int i = 0; i < high - low; i++) {
                 pool.add(nullConst);
             }
+            // the added slots may continue a vacant slot at the former end of the pool
+            vacantSlot = Math.min(vacantSlot, low);
+            vacantPairSlot = Math.min(vacantPairSlot, max(1, low - 1));
         }
         pool.set(cpx, cell);
         if (sz == 2) {
@@ -301,6 +308,7 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
         }
         pool.remove(cpx);
         pool.forEach(cell -> cell.setFlag(NON_PROCESSED));
+        vacantSlot = vacantPairSlot = 1;
     }
 
     private void traverseConstantCell(ConstCell<?> constCell, Consumer<ConstCell<?>> op) {
@@ -358,7 +366,7 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
             }
             if (cell.isSet() && (cell.cpIndex != cpx)) {
                 cell = new ConstCell(value);
-                environment.traceln("setCell: new ConstCell " + cell);
+                environment.traceln("setCell: new ConstCell %s", cell);
             }
         }
         cpool_set(cpx, cell, sz);
@@ -375,13 +383,43 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
                 environment.throwErrorException("err.constcell.is.undef");
             }
         }
-        return ConstantPoolHashByValue.values().stream().
+        Collection<ConstCell<?>> cells = ConstantPoolHashByValue.values();
+        if (cellsByValueHash != null) {
+            cells = cellsByValueHash.getOrDefault(valueHash(value, VALUE_HASH_DEPTH), List.of());
+        }
+        return cells.stream().
                 filter(v -> v.isSet() &&
                         v.getType() == value.tag &&
                         v.ref.equalsByValue(value)).
                 findFirst();
     }
 
+    private static final int VALUE_HASH_DEPTH = 4;
+
+    /**
+     * Calculates the hash code of a constant value that is consistent with {@link ConstValue#equalsByValue(Object)}:
+     * the indexes of the referenced cells aren't taken into account, only their values up to the depth given.
+     */
+    private static int valueHash(ConstValue<?> value, int depth) {
+        int result = 0;
+        if (depth > 0) {
+            if (value instanceof ConstValue_Pair<?, ?> pair) {
+                if (pair.value != null) {
+                    result = 31 * valueHash(pair.value.first, depth) + valueHash(pair.value.second, depth);
+                }
+            } else if (value.value instanceof ConstCell<?> cell) {
+                result = valueHash(cell, depth);
+            } else {
+                result = Objects.hashCode(value.value);
+            }
+        }
+        return 31 * result + value.tag.hashCode();
+    }
+
+    private static int valueHash(ConstCell<?> cell, int depth) {
+        return (cell == null || cell.ref == null) ? 0 : valueHash(cell.ref, depth - 1);
+    }
+
     private ConstCell<?> itemizeCell(ConstCell<?> cell) {
         Optional<ConstCell<?>> optionalCell = getItemizedCell(cell);
         if (optionalCell.isPresent()) {
@@ -400,12 +438,23 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
 
     protected void itemizePool() {
         environment.traceln("itemizePool");
-        for (ReferenceRank rank : ReferenceRank.values()) {
-            for (ConstCell cell : ConstantPoolHashByValue.values().stream().filter(v -> !v.isSet() && rank.equals(v.rank)).toList()) {
-                // find already set ConstCell having cpIndex.isSet && value == value of ConstCell where cpIndex is not set.
-                // they should be equal by value i.e. cpIndex should not be taken into account
-                itemizeCell(cell);
+        // the values don't change while the cells are itemized, hence the cells equal by value are looked up by hash
+        cellsByValueHash = new HashMap<>();
+        for (ConstCell<?> cell : ConstantPoolHashByValue.values()) {
+            if (cell.ref != null) {
+                cellsByValueHash.computeIfAbsent(valueHash(cell.ref, VALUE_HASH_DEPTH), h -> new ArrayList<>(1)).add(cell);
+            }
+        }
+        try {
+            for (ReferenceRank rank : ReferenceRank.values()) {
+                for (ConstCell cell : ConstantPoolHashByValue.values().stream().filter(v -> !v.isSet() && rank.equals(v.rank)).toList()) {
+                    // find already set ConstCell having cpIndex.isSet && value == value of ConstCell where cpIndex is not set.
+                    // they should be equal by value i.e. cpIndex should not be taken into account
+                    itemizeCell(cell);
+                }
             }
+        } finally {
+            cellsByValueHash = null;
         }
         ConstCell firstCell = getConstPollCellByIndex(0);
         firstCell.cpIndex = 0;
@@ -417,12 +466,18 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
     }
 
     private int findVacantSlot(int cellSize) {
-        int index = 1;
+        // the vacant slots are taken in ascending order, so the search continues from the previously found one
+        int index = (cellSize == 1) ? vacantSlot : vacantPairSlot;
         for (; index < pool.size(); index++) {
             if (pool.get(index) == nullConst && ((cellSize == 1) || pool.get(index + 1) == nullConst)) {
                 break;
             }
         }
+        if (cellSize == 1) {
+            vacantSlot = index;
+        } else {
+            vacantPairSlot = index;
+        }
         return index;
     }
 
@@ -452,7 +507,7 @@ public class ConstantPool implements Iterable<ConstCell<?>> {
             if (!value.equals(ref)) {
                 environment.throwErrorException("err.values.not.eq", ref.toString(), value.toString());
             }
-            environment.traceln(format("ConstantPoolHashByValue.got ('%s') for '%s'", cell, ref));
+            environment.traceln("ConstantPoolHashByValue.got ('%s') for '%s'", cell, ref);
         } else {
             // If we didn't find a cached ConstValue add it to the cache
             cell = new ConstCell(ref);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,12 +25,12 @@ package org.openjdk.asmtools.jasm;
 import org.openjdk.asmtools.common.CompilerLogger;
 import org.openjdk.asmtools.common.EMessageKind;
 import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.inputs.SourceText;
 import org.openjdk.asmtools.common.inputs.TextInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 
@@ -53,7 +53,9 @@ public class JasmEnvironment extends Environment<CompilerLogger> {
         try {
             // content of the jasm input file
             super.setToolInput(toolInput);
-            this.inputFile = new InputFile(getDataInputStream());
+            SourceText source = SourceText.read(getDataInputStream());
+            getLogger().setSource(source);
+            this.inputFile = new InputFile(source);
         } catch (IOException ioe) {
             error("err.cannot.read", toolInput);
             throw ioe;
@@ -165,8 +167,8 @@ public class JasmEnvironment extends Environment<CompilerLogger> {
 
     private class InputFile extends TextInput {
 
-        InputFile(DataInputStream dataInputStream) throws IOException {
-            super(dataInputStream);
+        InputFile(SourceText source) {
+            super(source);
         }
 
         int lookForwardUTF() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -438,11 +438,25 @@ public class JasmTokens {
         final private EnumSet<TokenType> tokenTypes;        // TokenType.MISC, TokenType.MODULE_NAME
         final private KeywordType keywordType;              // KeywordType.KEYWORD
 
+        // Reverse lookup table: parse keys and aliases of tokens by keyword type.
+        // The first token declared with a key wins.
+        final private static Map<KeywordType, Map<String, Token>> ParsekeyToTokens = new EnumMap<>(KeywordType.class);
+
+        static {
+            for (KeywordType keywordType : KeywordType.values()) {
+                ParsekeyToTokens.put(keywordType, new HashMap<>());
+            }
+            for (Token token : ALL_TOKENS) {
+                Map<String, Token> tokens = ParsekeyToTokens.get(token.keywordType);
+                tokens.putIfAbsent(token.parseKey, token);
+                if (token.alias != null) {
+                    tokens.putIfAbsent(token.alias, token);
+                }
+            }
+        }
+
         public static Optional<Token> get(String parseKey, KeywordType keywordType) {
-            return ALL_TOKENS.stream().
-                    filter(t -> t.keywordType == keywordType).
-                    filter(t -> t.parseKey.equals(parseKey) || (t.alias != null && t.alias.equals(parseKey))).
-                    findFirst();
+            return Optional.ofNullable(ParsekeyToTokens.get(keywordType).get(parseKey));
         }
 
         public static Set<Token> getTokenByType(TokenType type) {
@@ -531,7 +545,7 @@ public class JasmTokens {
     }
 
     public static Token keyword_token_ident(String idValue) {
-        return Token.get(idValue, KeywordType.KEYWORD).orElse(Token.IDENT);
+        return Token.ParsekeyToTokens.get(KeywordType.KEYWORD).getOrDefault(idValue, Token.IDENT);
     }
 
     public static String asString(List<Token> tokens) {
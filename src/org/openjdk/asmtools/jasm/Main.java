@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,12 +23,14 @@
 package org.openjdk.asmtools.jasm;
 
 import org.openjdk.asmtools.asmutils.Pair;
+import org.openjdk.asmtools.common.ParallelTasks;
 import org.openjdk.asmtools.common.inputs.FileInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
+import org.openjdk.asmtools.common.outputs.BufferedToolOutput;
 import org.openjdk.asmtools.common.outputs.PrintWriterOutput;
 import org.openjdk.asmtools.common.outputs.StdoutOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
-import org.openjdk.asmtools.common.outputs.log.DualOutputStreamOutput;
+import org.openjdk.asmtools.common.outputs.log.BufferedLog;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 import org.openjdk.asmtools.common.outputs.log.StderrLog;
 import org.openjdk.asmtools.common.structure.CFVersion;
@@ -36,6 +38,7 @@ import org.openjdk.asmtools.common.structure.CFVersion;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +64,8 @@ public class Main extends JasmTool {
 
     // tool options
     private boolean noWriteFlag = false;        // Do not write generated class files
+    private boolean continueFlag = false;       // Compile the rest of files after a file with errors
+    private boolean streamFlag = false;         // Write every class as soon as it is parsed
 
     // hidden options
     private int byteLimit = 0;
@@ -132,46 +137,155 @@ public class Main extends JasmTool {
     // Run jasm compiler when args already parsed
     @Override
     public synchronized int compile() {
+        int rc = (threads > 1 && fileList.size() > 1) ? compileInParallel() : compileSequentially();
+        try {
+            closeZipDestination();
+        } catch (IOException ioe) {
+            environment.printException(ioe);
+            environment.error("err.cannot.write", environment.getToolOutput());
+            rc += environment.flush(true);
+        }
+        return rc;
+    }
+
+    private int compileSequentially() {
         // compile all input files
         int rc = OK;
-        try {
-            for (ToolInput inputFileName : fileList) {
-                environment.setToolInput(inputFileName);
-                Parser parser = new Parser(environment, cfv);
-                // Set hidden options: Parser debug flags
-                parser.setDebugFlags(debugScanner, debugMembers, debugCP, debugAnnot, debugInstr, debugAttribute);
-                parser.parseFile();
-                if (environment.getCount(ERROR) > 0) {
-                    break;
+        for (ToolInput toolInput : fileList) {
+            Status status = compile(environment, toolInput);
+            rc += complete(environment, status);
+            if (status != Status.DONE && !continueFlag) {
+                break;
+            }
+        }
+        return rc;
+    }
+
+    /**
+     * Compiles the input files on worker threads. Every file gets its own environment, logger and buffers.
+     * The produced classes and the diagnostics are written in the order of the input files,
+     * hence the result is the same as the result of the sequential run.
+     */
+    private int compileInParallel() {
+        int rc = OK;
+        try (ParallelTasks<ToolInput, Compilation> tasks = new ParallelTasks<>(threads, fileList, this::compile)) {
+            for (Compilation compilation : tasks) {
+                try {
+                    compilation.output().replay(environment.getToolOutput(), environment);
+                } catch (IOException ioe) {
+                    environment.error(ioe);
+                    environment.printException(ioe);
+                    return rc + environment.flush(true);
                 }
-                if (noWriteFlag) {
-                    continue;
+                compilation.log().replay(environment.getOutputs());
+                rc += compilation.errors();
+                if (compilation.status() != Status.DONE && !continueFlag) {
+                    break;
                 }
-                ClassData[] clsData = parser.getClassesData();
-                for (ClassData cd : clsData) {
-                    String fullyQualifiedName = cd.myClassName;
-                    ToolOutput toolOutput = environment.getToolOutput();
-                    toolOutput.startClass(fullyQualifiedName, Optional.of(cd.fileExtension), environment);
-                    if (byteLimit > 0) {
-                        cd.setByteLimit(byteLimit);
+            }
+        }
+        return rc;
+    }
+
+    // Compiles the input on a worker thread
+    private Compilation compile(ToolInput toolInput) {
+        BufferedToolOutput output = new BufferedToolOutput();
+        BufferedLog log = new BufferedLog();
+        JasmEnvironment workerEnvironment = new JasmEnvironment.JasmBuilder(output, log).build();
+        workerEnvironment.setVerboseFlag(environment.getVerboseFlag());
+        workerEnvironment.setTraceFlag(environment.isTraceFlag());
+        workerEnvironment.setIgnorePackage(environment.isIgnorePackage());
+        if (environment.isIgnoreWarnings()) {
+            workerEnvironment.setIgnoreWarningsOn();
+        }
+        if (environment.isStrictWarnings()) {
+            workerEnvironment.setStrictWarningsOn();
+        }
+        Status status = compile(workerEnvironment, toolInput);
+        // the messages refer to the source lines, hence they are formatted while the worker keeps the source
+        int errors = complete(workerEnvironment, status);
+        return new Compilation(output, log, status, errors);
+    }
+
+    /**
+     * Compiles the input and writes the produced classes into the tool output of the environment
+     *
+     * @return the status of the compilation
+     */
+    private Status compile(JasmEnvironment environment, ToolInput toolInput) {
+        try {
+            environment.setToolInput(toolInput);
+            Parser parser = new Parser(environment, cfv);
+            // Set hidden options: Parser debug flags
+            parser.setDebugFlags(debugScanner, debugMembers, debugCP, debugAnnot, debugInstr, debugAttribute);
+            if (streamFlag && !noWriteFlag) {
+                // the class is released after writing, the classes parsed after an error are dropped
+                parser.setClassConsumer(cd -> {
+                    if (environment.getCount(ERROR) == 0) {
+                        try {
+                            write(environment, cd);
+                        } catch (IOException ioe) {
+                            throw new UncheckedIOException(ioe);
+                        }
                     }
-                    cd.write(toolOutput);
-                    toolOutput.finishClass(fullyQualifiedName);
-                }
-                if (environment.hasMessages()) {
-                    rc += environment.flush(true);
-                }
+                });
+            }
+            parser.parseFile();
+            if (environment.getCount(ERROR) > 0) {
+                return Status.FAILED;
+            }
+            if (noWriteFlag || streamFlag) {
+                return Status.DONE;
             }
+            for (ClassData cd : parser.getClassesData()) {
+                write(environment, cd);
+            }
+            return Status.DONE;
         } catch (IOException | URISyntaxException | Error exception) {
             environment.printException(exception);
-            rc++;
+            return Status.ABORTED;
+        } catch (UncheckedIOException exception) {
+            environment.printException(exception.getCause());
+            return Status.ABORTED;
         } catch (Throwable exception) {
             // all untrapped exception/errors that escaped CompilerLogger
             environment.printException(exception);
             environment.error(exception);
+            return Status.FAILED;
         }
-        if (environment.hasMessages()) rc += environment.flush(true);
-        return rc;
+    }
+
+    private void write(JasmEnvironment environment, ClassData cd) throws IOException {
+        String fullyQualifiedName = cd.myClassName;
+        ToolOutput toolOutput = environment.getToolOutput();
+        toolOutput.startClass(fullyQualifiedName, Optional.of(cd.fileExtension), environment);
+        if (byteLimit > 0) {
+            cd.setByteLimit(byteLimit);
+        }
+        cd.write(toolOutput);
+        toolOutput.finishClass(fullyQualifiedName);
+    }
+
+    /**
+     * Flushes the log of the environment
+     *
+     * @return the number of errors found while compiling the input
+     */
+    private int complete(JasmEnvironment environment, Status status) {
+        int errors = (status == Status.ABORTED) ? 1 : 0;
+        if (environment.hasMessages()) {
+            errors += environment.flush(true);
+        }
+        return errors;
+    }
+
+    private enum Status {
+        DONE,       // the input is compiled, there might be warnings
+        FAILED,     // errors are reported into the log
+        ABORTED     // I/O or internal error
+    }
+
+    private record Compilation(BufferedToolOutput output, BufferedLog log, Status status, int errors) {
     }
 
     @Override
@@ -181,12 +295,17 @@ public class Main extends JasmTool {
                 "info.usage",
                 "info.opt.d",
                 "info.opt.w",
+                "info.opt.zip",
+                "info.opt.zip.stored",
                 "info.opt.nowrite",
+                "info.opt.continue",
+                "info.opt.stream",
                 "info.opt.nowarn",
                 "info.opt.strict",
                 "info.opt.cv",
                 "info.opt.fixcv",
                 "info.opt.fixcv.full",
+                "info.opt.j",
                 "info.opt.t",
                 "info.opt.v",
                 "info.opt.version"
@@ -209,19 +328,24 @@ public class Main extends JasmTool {
                     case "-strict" -> environment.setStrictWarningsOn();
                     case "-nowarn" -> environment.setIgnoreWarningsOn();
                     case "-nowrite" -> noWriteFlag = true;
+                    case "-continue" -> continueFlag = true;
+                    case "-stream" -> streamFlag = true;
                     case VERSION_SWITCH -> {
                         environment.println(FULL_VERSION);
-                        System.exit(OK);
+                        exit(OK);
                     }
                     case WRITE_SWITCH -> {                              // -w
                         environment.setIgnorePackage(true);
                         setFSDestination(DIR, ++i, argv);
                     }
                     case DIR_SWITCH -> setFSDestination(DIR, ++i, argv);
-                    case DUAL_LOG_SWITCH -> this.environment.setOutputs(new DualOutputStreamOutput());
+                    case THREADS_SWITCH -> setThreads(++i, argv);
+                    case ZIP_SWITCH -> setZipDestination(++i, argv);
+                    case ZIP_STORED_SWITCH -> setStoredZipEntries();
+                    case DUAL_LOG_SWITCH -> this.environment.setOutputs(getDualStreamLog());
                     case "-h", "-help", "-?" -> {
                         usage();
-                        System.exit(OK);
+                        exit(OK);
                     }
                     // overrides cf version even if it's defined in the source file.
                     case "-fixcv", "-cv" -> {
@@ -317,20 +441,20 @@ public class Main extends JasmTool {
                             usage();
                             throw new IllegalArgumentException();
                         } else {
-                            fileList.add(new FileInput(argv[i]));
+                            fileList.add(new FileInput(resolve(argv[i])));
                         }
                     }
                 }
             }
             if (fileList.isEmpty()) {
                 usage();
-                System.exit(FAILED);
+                exit(FAILED);
             }
         } catch (IllegalArgumentException iae) {
             if (environment.hasMessages()) {
                 environment.flush(false);
             }
-            System.exit(FAILED);
+            exit(FAILED);
         }
 
     }
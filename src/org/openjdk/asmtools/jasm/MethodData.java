@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -181,7 +181,7 @@ class MethodData extends MemberData<JasmEnvironment> {
     }
 
     public void addMethodParameter(int totalParams, int paramNum, ConstCell<?> name, int access) {
-        getEnvironment().traceln("addMethodParameter Param[" + paramNum + "] (name: " + name.toString() + ", Flags (" + access + ").");
+        getEnvironment().traceln("addMethodParameter Param[%s] (name: %s, Flags (%s).", paramNum, name, access);
         if (methodParameters == null) {
             methodParameters = new DataVectorAttr<>(classData.pool, EAttribute.ATT_MethodParameters, true);
             for (int i = 0; i < totalParams; i++) {
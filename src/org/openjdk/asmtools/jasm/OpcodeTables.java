@@ -28,23 +28,29 @@ import java.util.HashMap;
  * OpcodeTables
  * <p>
  * The OpcodeTables class follows a Singleton Pattern. This class contains Enums, that are
- * contained in private hash maps (lookup tables and reverse lookup tables). These hash
- * maps all have public accessors, which clients use to look-up opcodes.
+ * contained in private lookup tables (indexed by opcode value and keyed by mnemonic). These
+ * tables all have public accessors, which clients use to look-up opcodes.
  * <p>
  * Tokens in this table carry no external state, and are typically treated as constants.
  * They do not need to be reset.
  */
 public class OpcodeTables {
 
-    public static int MAX_TABLESWITCH_LENGTH = 16384;            // 2^14 in bytes
-    public static int MAX_LOOKUPSWITCH_LENGTH = 16384;           // 2^14 in bytes
-    public static int MAX_LOOKUPSWITCH_PAIRS_COUNT = 2048;       // count
+    public static final int MAX_TABLESWITCH_LENGTH = 16384;            // 2^14 in bytes
+    public static final int MAX_LOOKUPSWITCH_LENGTH = 16384;           // 2^14 in bytes
+    public static final int MAX_LOOKUPSWITCH_PAIRS_COUNT = 2048;       // count
 
     /**
      * Initialized keyword and token Hash Maps (and Reverse Tables)
      */
     static private final int MaxOpcodes = 301;
-    static private final HashMap<Integer, Opcode> IntToAllOpcodes = new HashMap<>(MaxOpcodes);
+    /**
+     * Opcodes indexed by their value: a row per high byte of the value, created only for the rows in use
+     * (plain, wide, priv and nonpriv opcodes). The pseudo opcodes opc_dead and opc_label have negative values
+     * and are kept apart. The lookups take no lock and box nothing.
+     */
+    static private final Opcode[][] IntToAllOpcodes = new Opcode[0x100][];
+    static private final Opcode[] PseudoOpcodes = new Opcode[2];
     static private final HashMap<String, Opcode> Mnemocodes = new HashMap<>(MaxOpcodes);
 
     static {
@@ -56,7 +62,16 @@ public class OpcodeTables {
     }
 
     private static void registerOpcode(Opcode opc) {
-        IntToAllOpcodes.put(opc.value, opc);
+        int code = opc.value;
+        if (code < 0) {
+            PseudoOpcodes[-code - 1] = opc;
+        } else {
+            Opcode[] row = IntToAllOpcodes[code >>> 8];
+            if (row == null) {
+                row = IntToAllOpcodes[code >>> 8] = new Opcode[0x100];
+            }
+            row[code & 0xFF] = opc;
+        }
         Mnemocodes.put(opc.parseKey, opc);
         if (opc.alias != null) {
             Mnemocodes.put(opc.alias, opc);
@@ -67,8 +82,15 @@ public class OpcodeTables {
         return Mnemocodes.get(mnemonic);
     }
 
-    public static Opcode opcode(Integer mnem_code) {
-        return IntToAllOpcodes.get(mnem_code);
+    public static Opcode opcode(int mnem_code) {
+        if (mnem_code < 0) {
+            return mnem_code >= -PseudoOpcodes.length ? PseudoOpcodes[-mnem_code - 1] : null;
+        }
+        if (mnem_code > 0xFFFF) {
+            return null;
+        }
+        Opcode[] row = IntToAllOpcodes[mnem_code >>> 8];
+        return row == null ? null : row[mnem_code & 0xFF];
     }
 
     /**
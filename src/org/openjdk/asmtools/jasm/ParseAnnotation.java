@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -149,7 +149,7 @@ public class ParseAnnotation extends ParseBase {
      * @throws SyntaxError if a scanner error occurs
      */
     protected void parseParamAnnotation(int totalParams, MethodData curMethod) throws SyntaxError {
-        scanner.debugScan(" - - - > [ParserAnnotation.parseParamAnnots]: Begin, totalParams =  " + totalParams + " ");
+        scanner.debugScan(" - - - > [ParserAnnotation.parseParamAnnots]: Begin, totalParams =  %s ", totalParams);
         // The _method thinks there are N+1 params in the signature
         // (N = total params in the call list) + 1 (return value)
         // int totalParams = totalParams - 1;
@@ -207,11 +207,11 @@ public class ParseAnnotation extends ParseBase {
         scanner.scan();
         if (scanner.token == CPINDEX) {
             int cpIndex = scanner.intValue;
-            scanner.debugScan("     [ParserAnnotation.parseTypeAnnotation]: cpIndex = #%d".formatted(cpIndex));
+            scanner.debugScan("     [ParserAnnotation.parseTypeAnnotation]: cpIndex = #%d", cpIndex);
             ta = new TypeAnnotationData(parser.pool.getCell(cpIndex), isInvisible);
         } else {
             String value = scanner.stringValue;
-            scanner.debugScan("     [ParserAnnotation.parseTypeAnnotation]: value = %s".formatted(value));
+            scanner.debugScan("     [ParserAnnotation.parseTypeAnnotation]: value = %s", value);
             ta = new TypeAnnotationData(parser.pool.findUTF8Cell(value), isInvisible);
         }
 
@@ -247,11 +247,11 @@ public class ParseAnnotation extends ParseBase {
 
         if (scanner.token == CPINDEX) {
             int cpIndex = scanner.intValue;
-            scanner.debugScan("     [ParserAnnotation.parseAnnotation]: cpIndex = #%d".formatted(cpIndex));
+            scanner.debugScan("     [ParserAnnotation.parseAnnotation]: cpIndex = #%d", cpIndex);
             ad = new AnnotationData(parser.pool.getCell(cpIndex), isInvisible);
         } else {
             String value = scanner.stringValue;
-            scanner.debugScan("     [ParserAnnotation.parseAnnotation]: value = %s".formatted(value));
+            scanner.debugScan("     [ParserAnnotation.parseAnnotation]: value = %s", value);
             ad = new AnnotationData(parser.pool.findUTF8Cell(value), isInvisible);
         }
 
@@ -279,13 +279,13 @@ public class ParseAnnotation extends ParseBase {
                     throw new SyntaxError();
                 }
                 String name = refValue.asString();
-                scanner.debugScan("     [ParserAnnotation._scanAnnotation]: Annot - Field Name: " + name);
+                scanner.debugScan("     [ParserAnnotation._scanAnnotation]: Annot - Field Name: %s", name);
                 DataWriter dataWriter = scanAnnotationData(name);
                 annotData.add(new AnnotationData.ElemValuePair(nameCell, dataWriter));
             } else {
                 if (scanner.token == CPINDEX) {
                     ConstCell refCell = parser.parseName();
-                    scanner.debugScan("     [ParserAnnotation._scanAnnotation]: " + nameCell.cpIndex + " = " + refCell.cpIndex);
+                    scanner.debugScan("     [ParserAnnotation._scanAnnotation]: %s = %s", nameCell.cpIndex, refCell.cpIndex);
                     annotData.add(new AnnotationData.ElemValuePair(nameCell, refCell));
                 } else {
                     DataWriter dataWriter = scanAnnotationData("unknown");
@@ -312,14 +312,14 @@ public class ParseAnnotation extends ParseBase {
 
         //Scan the target_type and the target_info
         scanner.expect(Token.IDENT);
-        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: TargetType: " + scanner.idValue);
+        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: TargetType: %s", scanner.idValue);
         ETargetType targetType = ETargetType.getTargetType(scanner.idValue);
         if (targetType == null) {
             environment.error(scanner.pos, "err.incorrect.typeannot.target", scanner.idValue);
             throw new SyntaxError();
         }
 
-        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: Got TargetType: " + targetType);
+        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: Got TargetType: %s", targetType);
 
         if (targetTypeVisitor.scanner == null) {
             targetTypeVisitor.scanner = scanner;
@@ -328,7 +328,7 @@ public class ParseAnnotation extends ParseBase {
 
         annotData.targetInfo = targetTypeVisitor.getTargetInfo();
         annotData.targetType = targetType;
-        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: Got TargetInfo: " + annotData.targetInfo);
+        scanner.debugScan("     [ParserAnnotation._scanTypeTarget]: Got TargetInfo: %s", annotData.targetInfo);
 
         scanner.expect(Token.RBRACE);
     }
@@ -450,7 +450,7 @@ public class ParseAnnotation extends ParseBase {
         scanner.scan();
         switch (scanner.token) {
             case IDENT, STRINGVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Class Field: " + name + " = " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Class Field: %s = %s", name, scanner.stringValue);
                 //need to encode the stringval as an (internal) descriptor.
                 String desc = scanner.stringValue;
                 // note: for annotations, a class field points to a string with the class descriptor.
@@ -459,7 +459,7 @@ public class ParseAnnotation extends ParseBase {
                 break;
             case CPINDEX:
                 // could be a reference to a class name
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Class Field: " + name + " = " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Class Field: %s = %s", name, scanner.stringValue);
                 Integer ConstNmCPX = Integer.valueOf(scanner.stringValue);
                 constVal = new ClassElemValue(parser.pool.getCell(ConstNmCPX));
                 scanner.scan();
@@ -556,13 +556,13 @@ public class ParseAnnotation extends ParseBase {
             // This handles the Annotation types (as normalized in the constant pool)
             // Some primitive types (Boolean, char, short, byte) are identified by a keyword.
             case INTVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Integer Field: " + name + " = " + scanner.intValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Integer Field: %s = %s", name, scanner.intValue);
                 dataWriter = new ConstElemValue(CONSTANT_INTEGER.getAnnotationElementTypeValue(),
                         parser.pool.findIntegerCell(scanner.intValue));
                 scanner.scan();
                 break;
             case DOUBLEVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Double Field: " + name + " = " + scanner.doubleValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Double Field: %s = %s", name, scanner.doubleValue);
                 double dval = scanner.doubleValue;
                 Long val = Double.doubleToLongBits(dval);
                 dataWriter = new ConstElemValue(CONSTANT_DOUBLE.getAnnotationElementTypeValue(),
@@ -570,7 +570,7 @@ public class ParseAnnotation extends ParseBase {
                 scanner.scan();
                 break;
             case FLOATVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Float Field: " + name + " = " + scanner.floatValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Float Field: %s = %s", name, scanner.floatValue);
                 float fval = scanner.floatValue;
                 Integer val1 = Float.floatToIntBits(fval);
                 dataWriter = new ConstElemValue(CONSTANT_FLOAT.getAnnotationElementTypeValue(),
@@ -578,41 +578,41 @@ public class ParseAnnotation extends ParseBase {
                 scanner.scan();
                 break;
             case LONGVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Long Field: " + name + " = " + scanner.longValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Long Field: %s = %s", name, scanner.longValue);
                 dataWriter = new ConstElemValue(CONSTANT_LONG.getAnnotationElementTypeValue(),
                         parser.pool.findLongCell(scanner.longValue));
                 scanner.scan();
                 break;
             case STRINGVAL:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: String Field: " + name + " = " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: String Field: %s = %s", name, scanner.stringValue);
                 dataWriter = new ConstElemValue(CONSTANT_UTF8.getAnnotationElementTypeValue(),
                         parser.pool.findUTF8Cell(scanner.stringValue));
                 scanner.scan();
                 break;
             case CLASS:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Class) keyword: " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Class) keyword: %s", scanner.stringValue);
                 dataWriter = scanAnnotationClass(name);
                 break;
             case ENUM:
                 // scan the next two identifiers (eg ident.ident), or 2 CPRefs.
                 // if it is an Ident, use consume it as the class name.
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Enum) keyword: " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Enum) keyword: %s", scanner.stringValue);
                 dataWriter = scanAnnotationEnum();
                 break;
             case IDENT:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: JASM Keyword: (annotation field name: " + name + ") keyword: " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: JASM Keyword: (annotation field name: %s) keyword: %s", name, scanner.stringValue);
                 dataWriter = scanAnnotationIdent(scanner.stringValue, name);
                 break;
             case ANNOTATION:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Annotation Field: " + name + " = " + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Annotation Field: %s = %s", name, scanner.stringValue);
                 dataWriter = new AnnotationElemValue(parseAnnotation());
                 break;
             case LBRACE:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Annotation Array Field: " + name);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Annotation Array Field: %s", name);
                 dataWriter = scanAnnotationArray(name);
                 break;
             case CPINDEX:
-                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Field by index: " + name + " = #" + scanner.stringValue);
+                environment.traceln("[ParserAnnotation.scanAnnotationData]:: Constant Field by index: %s = #%s", name, scanner.stringValue);
                 int cpIndex = Integer.parseInt(scanner.stringValue);
                 dataWriter = getElementValueByCPIndex(cpIndex);
                 scanner.scan();
@@ -660,10 +660,10 @@ public class ParseAnnotation extends ParseBase {
                 switch (scanner.token) {
                     case INTVAL:
                         // Handle Boolean value in integer form
-                        environment.traceln("Boolean Field: " + name + " = " + scanner.intValue);
+                        environment.traceln("Boolean Field: %s = %s", name, scanner.intValue);
                         int val = scanner.intValue;
                         if (val > 1 || val < 0) {
-                            environment.traceln("Warning: Boolean Field: " + name + " value is not 0 or 1, value = " + scanner.intValue);
+                            environment.traceln("Warning: Boolean Field: %s value is not 0 or 1, value = %s", name, scanner.intValue);
                         }
                         dataWriter = new ConstElemValue(AE_BOOLEAN.tag(), parser.pool.findIntegerCell(val));
                         scanner.scan();
@@ -688,7 +688,7 @@ public class ParseAnnotation extends ParseBase {
                                         scanner.stringValue);
                                 throw new SyntaxError();
                         }
-                        environment.traceln("Boolean Field: " + name + " = " + scanner.stringValue);
+                        environment.traceln("Boolean Field: %s = %s", name, scanner.stringValue);
                         dataWriter = new ConstElemValue(AE_BOOLEAN.tag(), parser.pool.findIntegerCell(val1));
                         scanner.scan();
                         break;
@@ -710,10 +710,10 @@ public class ParseAnnotation extends ParseBase {
                 scanner.scan();
                 switch (scanner.token) {
                     case INTVAL:
-                        environment.traceln("Byte Field: " + name + " = " + scanner.intValue);
+                        environment.traceln("Byte Field: %s = %s", name, scanner.intValue);
                         int val = scanner.intValue;
                         if (val > 0xFF) {
-                            environment.traceln("Warning: Byte Field: " + name + " value is greater than 0xFF, value = " + scanner.intValue);
+                            environment.traceln("Warning: Byte Field: %s value is greater than 0xFF, value = %s", name, scanner.intValue);
                         }
                         dataWriter = new ConstElemValue(AE_BYTE.tag(), parser.pool.findIntegerCell(val));
                         scanner.scan();
@@ -736,7 +736,7 @@ public class ParseAnnotation extends ParseBase {
                 scanner.scan();
                 switch (scanner.token) {
                     case INTVAL:
-                        environment.traceln("Char Field: " + name + " = " + scanner.intValue);
+                        environment.traceln("Char Field: %s = %s", name, scanner.intValue);
                         Integer val = scanner.intValue;
                         // Bounds check?
                         dataWriter = new ConstElemValue(AE_CHAR.tag(), parser.pool.findIntegerCell(val));
@@ -760,10 +760,10 @@ public class ParseAnnotation extends ParseBase {
                 scanner.scan();
                 switch (scanner.token) {
                     case INTVAL:
-                        environment.traceln("Short Field: " + name + " = " + scanner.intValue);
+                        environment.traceln("Short Field: %s = %s", name, scanner.intValue);
                         int val = scanner.intValue;
                         if (val > 0xFFFF) {
-                            environment.traceln("Warning: Short Field: " + name + " value is greater than 0xFFFF, value = " + scanner.intValue);
+                            environment.traceln("Warning: Short Field: %s value is greater than 0xFFFF, value = %s", name, scanner.intValue);
                         }
                         dataWriter = new ConstElemValue(AE_SHORT.tag(),
                                 parser.pool.findIntegerCell(val));
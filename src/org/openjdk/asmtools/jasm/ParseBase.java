@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -60,21 +60,39 @@ public class ParseBase {
     }
 
     protected void traceMethodInfoLn() {
-        traceMethodInfoLn(() -> null);
+        if (debugFlag) {
+            printMethodInfoLn(null);
+        }
     }
 
     protected void traceMethodInfoLn(String str) {
-        traceMethodInfoLn(() -> str);
+        if (debugFlag) {
+            printMethodInfoLn(str);
+        }
+    }
+
+    /**
+     * Traces the message formatted only if the debug flag is on, hence the hot paths don't pay for the formatting.
+     */
+    protected void traceMethodInfoLn(String format, Object... args) {
+        if (debugFlag) {
+            printMethodInfoLn(format.formatted(args));
+        }
     }
 
     protected void traceMethodInfoLn(Supplier<String> supplier) {
         if (debugFlag) {
-            String str = supplier.get();
-            StackTraceElement elem = Thread.currentThread().getStackTrace()[str == null ? 3 : 2];
-            String msg = String.format("%s::%s[%d]%s",
-                    elem.getClassName().substring(elem.getClassName().lastIndexOf('.') + 1),
-                    elem.getMethodName(), elem.getLineNumber(), str == null ? "" : " " + str);
-            environment.traceln(msg);
+            printMethodInfoLn(supplier.get());
         }
     }
+
+    // Prints the message prefixed with the caller of traceMethodInfoLn: getStackTrace, printMethodInfoLn,
+    // traceMethodInfoLn, caller
+    private void printMethodInfoLn(String str) {
+        StackTraceElement elem = Thread.currentThread().getStackTrace()[3];
+        String msg = String.format("%s::%s[%d]%s",
+                elem.getClassName().substring(elem.getClassName().lastIndexOf('.') + 1),
+                elem.getMethodName(), elem.getLineNumber(), str == null ? "" : " " + str);
+        environment.traceln(msg);
+    }
 }
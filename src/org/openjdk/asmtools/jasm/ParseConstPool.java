@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -80,7 +80,7 @@ public class ParseConstPool extends ParseBase {
             tag = (isBSMArgTag) ? ClassFileConst.getBSMArgumentTypeByParseKey(scanner.idValue) :
                     ClassFileConst.getByParseKey(scanner.idValue);
         }
-        traceMethodInfoLn(format("\t\tTag: %s ", tag == null ? "<not found>" : tag));
+        traceMethodInfoLn("\t\tTag: %s ", tag == null ? "<not found>" : tag);
         return tag;
     }
 
@@ -140,7 +140,7 @@ public class ParseConstPool extends ParseBase {
                         default2Tag == null ? "<none>" : default2Tag, ignoreKeywords));
         // Lookup the Tag from the scanner
         ConstType tag = scanConstByID(ignoreKeywords, isBSMArgTag);
-        traceMethodInfoLn("\tResult Tag: %s >>".formatted(tag));
+        traceMethodInfoLn("\tResult Tag: %s >>", tag);
         // If the scanned tag is null
         if (tag == null) {
             // and, if the expected tag is null
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -109,7 +109,7 @@ public class ParseInstruction extends ParseBase {
         Indexer arg = null;
         Object arg2 = null;
         StackMapData stackMapData;
-        scanner.debugScan(mnenoc_pos, "parseInstr: MnemoCode \'%s\'".formatted(opcode.parseKey()));
+        scanner.debugScan(mnenoc_pos, "parseInstr: MnemoCode \'%s\'", opcode.parseKey());
         switch (opcodeType) {
             case NORMAL:
                 switch (opcode) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -79,6 +79,8 @@ import static org.openjdk.asmtools.jdis.ConstantPool.TAG.*;
 class Parser extends ParseBase {
 
     private final ArrayList<ClassData> clsDataList = new ArrayList<>();
+    // receives every class as soon as it is parsed, by default the classes are kept until the whole file is parsed
+    private Consumer<ClassData> classConsumer = clsDataList::add;
     /**
      * other parser components
      */
@@ -139,7 +141,7 @@ class Parser extends ParseBase {
                         minorVersion = scanner.intValue;
                         classData.cfv.setFileVersion(majorVersion, minorVersion);
                         scanner.scan();
-                        traceMethodInfoLn("parseVersion: " + classData.cfv.asString());
+                        traceMethodInfoLn(() -> "parseVersion: " + classData.cfv.asString());
                         return new Pair<>(majorVersion, minorVersion);
                     }
                 }
@@ -610,7 +612,7 @@ class Parser extends ParseBase {
                 int cpx = scanner.intValue;
                 scanner.scan();
                 scanner.expect(Token.ASSIGN);
-                traceMethodInfoLn("\ncpIndex: %d".formatted(cpx));
+                traceMethodInfoLn("\ncpIndex: %d", cpx);
                 pool.setCell(cpx, cpParser.parseConstPoolRef());
             } else {
                 environment.error("err.const.def.expected");
@@ -995,7 +997,7 @@ class Parser extends ParseBase {
             }
         }
         classData.EndMethod();
-        traceMethodInfoLn("End of the method " + curMethod);
+        traceMethodInfoLn("End of the method %s", curMethod);
     }  // end parseMethod
 
     private void parseCodeAttribute() throws IOException {
@@ -1281,7 +1283,7 @@ class Parser extends ParseBase {
         // SIGNATURE = (CPINDEX | STRING)
         traceMethodInfoLn("Begin");
         ConstCell signatureCell = parseName();
-        traceMethodInfoLn("Signature: " + signatureCell);
+        traceMethodInfoLn("Signature: %s", signatureCell);
         classData.setSignatureAttr(signatureCell);
     }
 
@@ -1317,7 +1319,7 @@ class Parser extends ParseBase {
             environment.error(scanner.prevPos, "err.wrong.sourcefile.ref");
             throw new SyntaxError();
         }
-        traceMethodInfoLn("Source File: " + sourceFileCell);
+        traceMethodInfoLn("Source File: %s", sourceFileCell);
         if (cpSourceFile != null && !cpSourceFile.equals(sourceFileCell.ref.value)) {
             // new file name that overwrites CP value.
             environment.warning(scanner.prevPos, "warn.extra.attribute",
@@ -1411,7 +1413,7 @@ class Parser extends ParseBase {
             throwSyntaxError("err.class.name.expected");
         }
         classData.addNestHost(cell);
-        traceMethodInfoLn("NestHost: class " + cell);
+        traceMethodInfoLn("NestHost: class %s", cell);
         scanner.expect(SEMICOLON);
     }
 
@@ -1429,7 +1431,7 @@ class Parser extends ParseBase {
                 throwSyntaxError("err.class.name.expected");
             }
             classes.add(cell);
-            traceMethodInfoLn("Added cell: " + cell);
+            traceMethodInfoLn("Added cell: %s", cell);
             if (scanner.token != COMMA) {
                 scanner.expect(SEMICOLON);
                 classesConsumer.accept(classes);
@@ -1454,7 +1456,7 @@ class Parser extends ParseBase {
                 throwSyntaxError("err.field.descriptor.expected");
             }
             utf8List.add(cell);
-            traceMethodInfoLn("Added cell: " + cell);
+            traceMethodInfoLn("Added cell: %s", cell);
             if (scanner.token != COMMA) {
                 scanner.expect(SEMICOLON);
                 utf8Consumer.accept(utf8List);
@@ -1745,12 +1747,12 @@ class Parser extends ParseBase {
     private void pic_tracecreate(int mod, ConstCell nameCell, ConstCell innerClass, ConstCell outerClass) {
         // throw error, IC is not recognizable
         traceMethodInfoLn("Creating InnerClass:");
-        environment.trace("[" + EModifier.asNames(mod, ClassFileContext.INNER_CLASS) + "], ");
+        environment.trace(() -> "[" + EModifier.asNames(mod, ClassFileContext.INNER_CLASS) + "], ");
 
         if (nameCell != pool.getCell(0)) {
             ConstValue value = nameCell.ref;
             if (value != null) {
-                environment.trace(value + " =\n\t\t");
+                environment.trace("%s =\n\t\t", value);
             }
         }
 
@@ -1765,7 +1767,7 @@ class Parser extends ParseBase {
             if (ici_ascii.ref.value == null) {
                 environment.trace("<#cpx-0> ");
             } else {
-                environment.trace(ici_ascii.ref.value + " ");
+                environment.trace("%s ", ici_ascii.ref.value);
             }
         }
 
@@ -1780,7 +1782,7 @@ class Parser extends ParseBase {
                     if (cval.value == null) {
                         environment.trace("\n\t\tof <#cpx-0>  ");
                     } else {
-                        environment.trace("\n\t\tof " + cval.value);
+                        environment.trace("\n\t\tof %s", cval.value);
                     }
                 }
             }
@@ -1866,7 +1868,7 @@ class Parser extends ParseBase {
                 case PACKAGE:
                     // begin of something outside a class, panic more
                     endClass();
-                    traceMethodInfoLn("scanner position %d".formatted(scanner.pos));
+                    traceMethodInfoLn("scanner position %d", scanner.pos);
                     throw new SyntaxError().setFatal();
                 default:
                     // don't know what to do, skip
@@ -2563,7 +2565,7 @@ class Parser extends ParseBase {
             }
         }
         classData.endClass();
-        clsDataList.add(classData);
+        classConsumer.accept(classData);
         initializeClassData();
     }
 
@@ -2589,7 +2591,7 @@ class Parser extends ParseBase {
             }
         }
         classData.endPackageInfo();
-        clsDataList.add(classData);
+        classConsumer.accept(classData);
         classData = null;
     }
 
@@ -2615,7 +2617,7 @@ class Parser extends ParseBase {
             }
         }
         classData.endModule(moduleAttribute);
-        clsDataList.add(classData);
+        classConsumer.accept(classData);
         classData = null;
     }
 
@@ -2623,6 +2625,16 @@ class Parser extends ParseBase {
         return clsDataList.toArray(new ClassData[0]);
     }
 
+    /**
+     * Sets the consumer of parsed classes. The classes passed to the consumer aren't kept by the parser
+     * and aren't returned by {@link #getClassesData()}
+     *
+     * @param classConsumer the consumer called for every class once its closing brace is parsed
+     */
+    void setClassConsumer(Consumer<ClassData> classConsumer) {
+        this.classConsumer = classConsumer;
+    }
+
     /**
      * Determines whether the JASM file is for a package-info class
      * or for a module-info class.
@@ -2665,7 +2677,7 @@ class Parser extends ParseBase {
                             } else {
                                 environment.error(where, "err.package.repeated");
                             }
-                            traceMethodInfoLn("{PARSED} package-prefix: \"" + pkgPrefix + "\"");
+                            traceMethodInfoLn("{PARSED} package-prefix: \"%s\"", pkgPrefix);
                         default:
                             scanNext = false;
                     }  // end switch
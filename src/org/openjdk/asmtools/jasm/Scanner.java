@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -207,7 +207,7 @@ public class Scanner extends ParseBase {
     protected final void check(Token t) throws SyntaxError {
         if (token != t) {
             if ((t != Token.IDENT) || !checkTokenIdent()) {
-                environment.traceln("expect: " + t + " instead of " + token);
+                environment.traceln("expect: %s instead of %s", t, token);
                 if (t == Token.IDENT) {
                     environment.error(pos, "err.identifier.expected");
                 } else {
@@ -791,7 +791,7 @@ public class Scanner extends ParseBase {
         idValue = bufferString();
         stringValue = idValue;
         token = keyword_token_ident(idValue);
-        traceMethodInfoLn("token = %s value = '%s'".formatted(token, idValue));
+        traceMethodInfoLn("token = %s value = '%s'", token, idValue);
     } // end scanIdentifier
 
     //==============================
@@ -952,6 +952,18 @@ public class Scanner extends ParseBase {
         }
     }
 
+    protected void debugScan(String format, Object... args) {
+        if (environment.isTraceFlag()) {
+            debugScan(format.formatted(args));
+        }
+    }
+
+    protected void debugScan(long position, String format, Object... args) {
+        if (environment.isTraceFlag()) {
+            debugScan(position, format.formatted(args));
+        }
+    }
+
     protected void debugScan(long position, String debStr) {
         if (environment.isTraceFlag()) {
             long lineNumber = environment.lineNumber(position);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -137,7 +137,7 @@ class SwitchTable {
             }
             numslots = high1 - low1 + 1;
         }
-        environment.traceln("  recalcTableSwitch: low=%d high=%d".formatted(low1, high1));
+        environment.traceln("  recalcTableSwitch: low=%d high=%d", low1, high1);
         this.pc = pc;
         pad = ((3 - pc) & 0x3);
         int len = 1 + pad + (numslots + 3) * 4;
@@ -149,7 +149,7 @@ class SwitchTable {
             resLabels1[k] = defLabel;
         }
         for (k = 0; k < numpairs; k++) {
-            environment.traceln("   keys.data[%d]=%s".formatted(k, keys.get(k)));
+            environment.traceln("   keys.data[%d]=%s", k, keys.get(k));
             resLabels1[keys.get(k) - low1] = labels.get(k);
         }
         this.resLabels = resLabels1;
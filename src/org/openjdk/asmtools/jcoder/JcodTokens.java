@@ -176,14 +176,14 @@ public class JcodTokens {
      * Initialized keyword and token Hash Maps (and Reverse Tables)
      */
     protected static final int MaxTokens = 172;
-    private static HashMap<Integer, Token> TagToTokens = new HashMap<>(MaxTokens);
-    private static HashMap<String, Token> SymbolToTokens = new HashMap<>(MaxTokens);
-    private static HashMap<String, Token> ParsekeyToTokens = new HashMap<>(MaxTokens);
+    private static final HashMap<Integer, Token> TagToTokens = new HashMap<>(MaxTokens);
+    private static final HashMap<String, Token> SymbolToTokens = new HashMap<>(MaxTokens);
+    private static final HashMap<String, Token> ParsekeyToTokens = new HashMap<>(MaxTokens);
 
     protected static final int MaxKeywords = 40;
-    private static HashMap<Integer, Token> TagToKeywords = new HashMap<>(MaxKeywords);
-    private static HashMap<String, Token> SymbolToKeywords = new HashMap<>(MaxKeywords);
-    private static HashMap<String, Token> ParsekeyToKeywords = new HashMap<>(MaxKeywords);
+    private static final HashMap<Integer, Token> TagToKeywords = new HashMap<>(MaxKeywords);
+    private static final HashMap<String, Token> SymbolToKeywords = new HashMap<>(MaxKeywords);
+    private static final HashMap<String, Token> ParsekeyToKeywords = new HashMap<>(MaxKeywords);
 
     static {
 
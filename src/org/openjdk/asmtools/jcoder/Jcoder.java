@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -302,7 +302,7 @@ class Jcoder {
 
         int num_present = parseStruct();
         if (num_expected == -1) {
-            environment.trace(" buf.writeAt(" + length0 + ", " + num_present + ", " + numSize + ");  ");
+            environment.trace(" buf.writeAt(%s, %s, %s);  ", length0, num_present, numSize);
             // skip array size
             if (numSize > 0) {
                 buf.writeAt(length0, num_present, numSize);
@@ -354,7 +354,7 @@ class Jcoder {
         parseStruct();
         int len_present = buf.length - length1;
         if (len_expected == -1) {
-            environment.trace(" buf.writeAt(" + length0 + ", " + len_present + ", " + lenSize + ");  ");
+            environment.trace(" buf.writeAt(%s, %s, %s);  ", length0, len_present, lenSize);
             // skip array size
             if (lenSize > 0) {
                 buf.writeAt(length0, len_present, lenSize);
@@ -454,7 +454,7 @@ class Jcoder {
         int major = 0;
         adjustDepth(true);
         environment.traceln(" ");
-        environment.traceln(tabStr + "MapStruct { <" + context + "> ");
+        environment.traceln("%sMapStruct { <%s> ", tabStr, context);
         expect(Token.LBRACE);
         int num = 0;
         int addElem = 0;
@@ -475,7 +475,7 @@ class Jcoder {
                         scanner.longValue = CONSTANT_CLASS.getTag();
                         scanner.intSize = 1;
                     case INTVAL:
-                        environment.trace("int [" + scanner.longValue + "] ");
+                        environment.trace("int [%s] ", scanner.longValue);
                         if (scanner.longValue == 0xCAFEBABEl && environment.cfv.isSetByParameter()) {
                             scanedCFV++;
                         } else {
@@ -489,7 +489,7 @@ class Jcoder {
                                 } else {
                                     scanedCFV = 0;
                                     major = scanner.intValue;
-                                    environment.trace(" Got file version: " + major + ":" + minor);
+                                    environment.trace(" Got file version: %s:%s", major, minor);
                                     // check version update if needed and go on
                                     environment.cfv.setFileVersion((short) major, (short) minor);
                                     buf.append(environment.cfv.minor_version(), scanner.intSize);
@@ -518,7 +518,7 @@ class Jcoder {
                         break;
                     case LONGSTRINGVAL:
                         scanner.scan();
-                        environment.traceln(tabStr + "LongString [\"" + Arrays.toString(scanner.longStringValue.data) + "\"] ");
+                        environment.traceln(() -> tabStr + "LongString [\"" + Arrays.toString(scanner.longStringValue.data) + "\"] ");
                         buf.write(scanner.longStringValue.data, 0, scanner.longStringValue.length);
                         addElem = 1;
                         break;
@@ -547,12 +547,12 @@ class Jcoder {
                         break;
                     case RBRACE:
                         scanner.scan();
-                        environment.traceln(System.lineSeparator() + tabStr + "} // MapStruct  <" + context + "> ]");
+                        environment.traceln("%s%s} // MapStruct  <%s> ]", System.lineSeparator(), tabStr, context);
                         adjustDepth(false);
                         return num + addElem;
                     default:
-                        environment.traceln("unexp token=" + scanner.token);
-                        environment.traceln("   scanner.stringval = \"" + scanner.stringValue + "\"");
+                        environment.traceln("unexp token=%s", scanner.token);
+                        environment.traceln("   scanner.stringval = \"%s\"", scanner.stringValue);
                         environment.error(scanner.pos, "err.element.expected");
                         throw new SyntaxError();
                 }
@@ -584,7 +584,7 @@ class Jcoder {
                     }
                     scanner.scan();
                     scanner.addConstDebug(CONSTANT_UTF8);
-                    environment.traceln(tabStr + "UTF8 [\"" + scanner.stringValue + "\"] ");
+                    environment.traceln("%sUTF8 [\"%s\"] ", tabStr, scanner.stringValue);
                     sb.append(scanner.stringValue);
                     prevSemicolonParsed = false;
                     break;
@@ -652,10 +652,10 @@ class Jcoder {
         outStream = new DataOutputStream(buf);
         buf.className = "module-info.class";
         scanner.scan();
-        environment.traceln("starting " + buf.className);
+        environment.traceln("starting %s", buf.className);
         // Parse the clause
         parseClause();
-        environment.traceln("ending " + buf.className);
+        environment.traceln("ending %s", buf.className);
     }
 
     /**
@@ -681,10 +681,10 @@ class Jcoder {
             }
         }
         scanner.scan();
-        environment.traceln("starting class " + buf.className);
+        environment.traceln("starting class %s", buf.className);
         // Parse the clause
         parseClause();
-        environment.traceln("ending class " + buf.className);
+        environment.traceln("ending class %s", buf.className);
 
 
     } // end parseClass
@@ -729,7 +729,7 @@ class Jcoder {
                             return;   // The end
                         }
                         default -> {
-                            environment.traceln("unexpected token=" + scanner.token);
+                            environment.traceln("unexpected token=%s", scanner.token);
                             environment.error(scanner.pos, "err.toplevel.expected");
                             throw new SyntaxError();
                         }
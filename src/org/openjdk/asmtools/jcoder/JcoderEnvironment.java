@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,13 +25,13 @@ package org.openjdk.asmtools.jcoder;
 import org.openjdk.asmtools.common.CompilerLogger;
 import org.openjdk.asmtools.common.EMessageKind;
 import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.inputs.SourceText;
 import org.openjdk.asmtools.common.inputs.TextInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 import org.openjdk.asmtools.common.structure.CFVersion;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 
@@ -55,7 +55,9 @@ public class JcoderEnvironment extends Environment<CompilerLogger> {
         try {
             // content of the jcod input file
             super.setToolInput(toolInput);
-            this.inputFile = new InputFile(getDataInputStream());
+            SourceText source = SourceText.read(getDataInputStream());
+            getLogger().setSource(source);
+            this.inputFile = new InputFile(source);
         } catch (IOException ioe) {
             error("err.cannot.read", toolInput);
             throw ioe;
@@ -126,8 +128,8 @@ public class JcoderEnvironment extends Environment<CompilerLogger> {
 
         private int index = 0;
 
-        InputFile(DataInputStream dataInputStream) throws IOException {
-            super(dataInputStream);
+        InputFile(SourceText source) {
+            super(source);
         }
 
         private int getChar() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,7 +28,6 @@ import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.PrintWriterOutput;
 import org.openjdk.asmtools.common.outputs.StdoutOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
-import org.openjdk.asmtools.common.outputs.log.DualOutputStreamOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 
 import java.io.IOException;
@@ -122,6 +121,8 @@ public class Main extends JcoderTool {
                 "info.usage",
                 "info.opt.d",
                 "info.opt.w",
+                "info.opt.zip",
+                "info.opt.zip.stored",
                 "info.opt.nowrite",
                 "info.opt.ignore",
                 "info.opt.fixcv",
@@ -157,6 +158,12 @@ public class Main extends JcoderTool {
             environment.printException(exception);
             environment.error(exception);
         }
+        try {
+            closeZipDestination();
+        } catch (IOException ioe) {
+            environment.printException(ioe);
+            environment.error("err.cannot.write", environment.getToolOutput());
+        }
         if (environment.hasMessages())
             rc += environment.flush(true);
         return rc;
@@ -182,7 +189,9 @@ public class Main extends JcoderTool {
                         environment.setIgnorePackage(true);
                         setFSDestination(DIR, ++i, argv);
                     }
-                    case DUAL_LOG_SWITCH -> environment.setOutputs(new DualOutputStreamOutput());
+                    case ZIP_SWITCH -> setZipDestination(++i, argv);
+                    case ZIP_STORED_SWITCH -> setStoredZipEntries();
+                    case DUAL_LOG_SWITCH -> environment.setOutputs(getDualStreamLog());
                     // TODO: restore using macro's
                     case "-m" -> {
                         if ((i + 1) >= argv.length) {
@@ -207,11 +216,11 @@ public class Main extends JcoderTool {
                     case "-ignore" -> ignoreFlag = true;
                     case VERSION_SWITCH -> {
                         environment.println(FULL_VERSION);
-                        System.exit(OK);
+                        exit(OK);
                     }
                     case "-h", "-help", "-?" -> {
                         usage();
-                        System.exit((OK));
+                        exit(OK);
                     }
                     case STDIN_SWITCH -> {
                         addStdIn();
@@ -269,20 +278,20 @@ public class Main extends JcoderTool {
                             usage();
                             throw new IllegalArgumentException();
                         } else {
-                            fileList.add(new FileInput(argv[i]));
+                            fileList.add(new FileInput(resolve(argv[i])));
                         }
                     }
                 }
             }
             if (fileList.isEmpty()) {
                 usage();
-                System.exit(FAILED);
+                exit(FAILED);
             }
         } catch (IllegalArgumentException iae) {
             if (environment.hasMessages()) {
                 environment.flush(false);
             }
-            System.exit(FAILED);
+            exit(FAILED);
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -107,7 +107,7 @@ public class Scanner {
 
     void addConstDebug(ClassFileConst.ConstType ct) {
         numCPentrs++;
-        environment.traceln("\n Const[" + numCPentrs + "] = " + ct.printVal());
+        environment.traceln(() -> "\n Const[" + numCPentrs + "] = " + ct.printVal());
     }
 
     void setMacro(String macro) {
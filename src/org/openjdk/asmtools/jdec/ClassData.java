@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,12 +24,12 @@ package org.openjdk.asmtools.jdec;
 
 import org.openjdk.asmtools.asmutils.StringUtils;
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.outputs.StdoutOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 import org.openjdk.asmtools.common.structure.*;
 import org.openjdk.asmtools.jcoder.JcodTokens;
 
-import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -64,8 +64,7 @@ class ClassData {
     private static final int INDENT_LENGTH = INDENT_STRING.length();
     /*========================================================*/
 
-    private final NestedByteArrayInputStream arrayInputStream;
-    private final DataInputStream inputStream;
+    private final ClassFileReader inputStream;
     protected JdecEnvironment environment;
     /* ====================================================== */
     private byte[] types;
@@ -80,14 +79,10 @@ class ClassData {
     ClassData(JdecEnvironment environment) throws IOException, URISyntaxException {
         this.environment = environment;
         //
-        try (DataInputStream dis = environment.getToolInput().getDataInputStream(Optional.empty())) {
-            byte[] buf = new byte[dis.available()];
-            if (dis.read(buf) <= 0) {
-                throw new FormatError(environment.getLogger(),
-                        "err.file.empty", environment.getSimpleInputFileName());
-            }
-            arrayInputStream = new NestedByteArrayInputStream(buf);
-            inputStream = new DataInputStream(arrayInputStream);
+        inputStream = ClassFileReader.of(environment.getToolInput(), Optional.empty());
+        if (inputStream.available() <= 0) {
+            throw new FormatError(environment.getLogger(),
+                    "err.file.empty", environment.getSimpleInputFileName());
         }
     }
 
@@ -119,9 +114,9 @@ class ClassData {
      * @param len             number of bytes
      * @param printSeparately defines a format  of printed lines which will be either  0x04 0x3C 0x04 0x3D; or 0x043C043D043E1B1C;
      * @param ignoreException Whether to propagate the exception or ignore it
-     * @throws IOException exception might happen while reading DataInputStream
+     * @throws IOException exception might happen while reading the class file
      **/
-    private void printBytes(DataInputStream in, int len, boolean printSeparately, boolean ignoreException) throws IOException {
+    private void printBytes(ClassFileReader in, int len, boolean printSeparately, boolean ignoreException) throws IOException {
         int i = 0;
         boolean printed = false;
         final int BYTES_IN_LINE = printSeparately ? BYTES_IN_LINE_SPACED_OUT : BYTES_IN_LINE_CONDENSED;
@@ -164,7 +159,7 @@ class ClassData {
         }
     }
 
-    private void printUtf8String(DataInputStream in, int len) throws IOException {
+    private void printUtf8String(ClassFileReader in, int len) throws IOException {
         final int CHARS_IN_LINE = 78;
         readUtf8String(in, len, CHARS_IN_LINE).forEach(s -> environment.println(getOutString("") + s));
     }
@@ -255,7 +250,7 @@ class ClassData {
         out_begin(startArray(length) + format("b {%s", comment == null ? "" : " // " + comment));
     }
 
-    private void readCP(byte[] alreadyRead, DataInputStream in) throws IOException {
+    private void readCP(byte[] alreadyRead, ClassFileReader in) throws IOException {
         int length = in.readUnsignedShort();
         CPlen = length;
         environment.traceln("jdec.trace.CP_len", length);
@@ -266,7 +261,7 @@ class ClassData {
             byte btag;
             int v1;
             long lv;
-            cpe_pos[i] = arrayInputStream.getPos();
+            cpe_pos[i] = inputStream.position();
             btag = in.readByte();
             environment.traceln("jdec.trace.CP_entry", i, btag);
             types[i] = btag;
@@ -420,7 +415,7 @@ class ClassData {
     }
 
     private String getStringPos() {
-        return " at " + toHex(arrayInputStream.getPos());
+        return " at " + toHex(inputStream.position());
     }
 
     private String getCommentPosCond() {
@@ -431,11 +426,11 @@ class ClassData {
         }
     }
 
-    private void decodeCPXAttr(DataInputStream in, int len, String attrname) throws IOException {
+    private void decodeCPXAttr(ClassFileReader in, int len, String attrname) throws IOException {
         decodeCPXAttrM(in, len, attrname, 1);
     }
 
-    private void decodeCPXAttrM(DataInputStream in, int len, String attrName, int expectedIndices) throws IOException {
+    private void decodeCPXAttrM(ClassFileReader in, int len, String attrName, int expectedIndices) throws IOException {
         if (len != expectedIndices * 2) {
             out_println("// == invalid length of " + attrName + " attr: " + len + " (should be " + (expectedIndices * 2) + ") ==");
             printBytes(in, len, false, false);
@@ -468,7 +463,7 @@ class ClassData {
      * @return String presentation of the aggregation of [number_of_unset_fields] {unset_fields }
      * @throws IOException if IO exception occurs
      */
-    private String getUnsetFields(DataInputStream in) throws IOException {
+    private String getUnsetFields(ClassFileReader in) throws IOException {
         int num = in.readUnsignedShort();
         StringBuilder sb = new StringBuilder(20);
         sb.append(startArray(num)).append('{');
@@ -486,7 +481,7 @@ class ClassData {
         return sb.toString();
     }
 
-    private String getStackMap(DataInputStream in, int elementsNum) throws IOException {
+    private String getStackMap(ClassFileReader in, int elementsNum) throws IOException {
         int num;
         StringBuilder sb = new StringBuilder(20);
         if (elementsNum > 0) {
@@ -531,7 +526,7 @@ class ClassData {
      * Processes 4.7.20 The RuntimeVisibleTypeAnnotations Attribute, 4.7.21 The RuntimeInvisibleTypeAnnotations Attribute
      * <code>type_annotation</code> structure.
      */
-    private void decodeTargetTypeAndRefInfo(DataInputStream in) throws IOException {
+    private void decodeTargetTypeAndRefInfo(ClassFileReader in) throws IOException {
         int tt = in.readUnsignedByte(); // [4.7.20] annotations[], type_annotation { u1 target_type; ...}
         ETargetType targetType = ETargetType.getTargetType(tt);
         if (targetType == null) {
@@ -605,7 +600,7 @@ class ClassData {
         }
     }
 
-    private void decodeElementValue(DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeElementValue(ClassFileReader in, ToolOutput out) throws IOException {
         out_begin("{  //  element_value");
         try {
             char tg = (char) in.readByte();
@@ -651,7 +646,7 @@ class ClassData {
         }
     }
 
-    private void decodeAnnotation(DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeAnnotation(ClassFileReader in, ToolOutput out) throws IOException {
         out_begin("{  //  annotation");
         try {
             decodeCPXAttr(in, 2, "field descriptor");
@@ -662,7 +657,7 @@ class ClassData {
         }
     }
 
-    private void decodeElementValuePairs(int count, DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeElementValuePairs(int count, ClassFileReader in, ToolOutput out) throws IOException {
         startArrayCmt(count, "element_value_pairs");
         try {
             for (int i = 0; i < count; i++) {
@@ -707,7 +702,7 @@ class ClassData {
      * attribute_info attributes[attributes_count];
      * }
      */
-    private void decodeInfo(DataInputStream in, ToolOutput out, String elementName, boolean hasAccessFlag) throws IOException {
+    private void decodeInfo(ClassFileReader in, ToolOutput out, String elementName, boolean hasAccessFlag) throws IOException {
         out_begin("{  // " + elementName + (environment.printDetailsFlag ? getStringPos() : ""));
         try {
             if (hasAccessFlag) {
@@ -726,7 +721,7 @@ class ClassData {
         }
     }
 
-    private void decodeTypeAnnotation(DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeTypeAnnotation(ClassFileReader in, ToolOutput out) throws IOException {
         out_begin("{  //  type_annotation");
         try {
             decodeTargetTypeAndRefInfo(in);
@@ -738,7 +733,7 @@ class ClassData {
         }
     }
 
-    private void decodeBootstrapMethod(DataInputStream in) throws IOException {
+    private void decodeBootstrapMethod(ClassFileReader in) throws IOException {
         out_begin("{  //  bootstrap_method");
         try {
             out_println("#" + in.readUnsignedShort() + "; // bootstrap_method_ref");
@@ -756,7 +751,7 @@ class ClassData {
         }
     }
 
-    private void decodeAttr(DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeAttr(ClassFileReader in, ToolOutput out) throws IOException {
         // Read one attribute
         String posComment = getStringPos();
         int name_cpx = 0, btag, len;
@@ -777,7 +772,7 @@ class ClassData {
         EAttribute tg = EAttribute.get(AttrName);
         String endingComment = AttrName.isEmpty() ? "#" + name_cpx : AttrName;
         len = in.readInt();
-        arrayInputStream.enter(len);
+        inputStream.enter(len);
         try {
             if (environment.printDetailsFlag) {
                 out_begin("Attr(#" + name_cpx + ", " + len + ") { // " + endingComment + posComment);
@@ -1168,18 +1163,18 @@ class ClassData {
         } catch (EOFException e) {
             environment.println(getOutString("") + "// == The unexpected end of attribute array while parsing. ==");
         } finally {
-            int rest = arrayInputStream.available();
+            int rest = inputStream.available();
             if (rest > 0) {
                 environment.println(getOutString("") +
                         "// == The attribute array started at" + posComment + " has " + rest + " bytes more than expected. ==");
                 printBytes(in, rest, true, true);
             }
             out_end("} // end of " + endingComment);
-            arrayInputStream.leave();
+            inputStream.leave();
         }
     }
 
-    private void decodeModuleStatement(String statementName, DataInputStream in) throws IOException {
+    private void decodeModuleStatement(String statementName, ClassFileReader in) throws IOException {
         int index, nFlags;
         String sComment;
         // u2 {exports|opens}_count
@@ -1208,7 +1203,7 @@ class ClassData {
         }
     }
 
-    private void decodeModule(DataInputStream in) throws IOException {
+    private void decodeModule(ClassFileReader in) throws IOException {
         int nFlags;
         String sComment;
         //u2 module_name_index
@@ -1286,7 +1281,7 @@ class ClassData {
         }
     }
 
-    private void decodeAttrs(DataInputStream in, ToolOutput out) throws IOException {
+    private void decodeAttrs(ClassFileReader in, ToolOutput out) throws IOException {
         // Read the attributes
         int attr_num = in.readUnsignedShort();
         startArrayCmt(attr_num, "Attributes");
@@ -1302,7 +1297,7 @@ class ClassData {
         }
     }
 
-    private void decodeMembers(DataInputStream in, ToolOutput out, String groupName, String elementName) throws IOException {
+    private void decodeMembers(ClassFileReader in, ToolOutput out, String groupName, String elementName) throws IOException {
         int count = in.readUnsignedShort();
         environment.traceln(groupName + "=" + count);
         startArrayCmt(count, groupName);
@@ -1440,7 +1435,7 @@ class ClassData {
         return 0;
     }
 
-    private void decodeTypes(DataInputStream in, int count, String typeName) throws IOException {
+    private void decodeTypes(ClassFileReader in, int count, String typeName) throws IOException {
         for (int i = 0; i < count; i++) {
             int type_cpx = in.readUnsignedShort();
             environment.traceln("jdec.trace.type", i, type_cpx);
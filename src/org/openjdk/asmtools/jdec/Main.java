@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,7 +27,6 @@ import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.outputs.EscapedPrintStreamOutput;
 import org.openjdk.asmtools.common.outputs.StdoutOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
-import org.openjdk.asmtools.common.outputs.log.DualOutputStreamOutput;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 import org.openjdk.asmtools.common.outputs.log.StderrLog;
 
@@ -89,6 +88,8 @@ public class Main extends JdecTool {
                 "info.opt.d",
                 "info.opt.w",
                 "info.opt.g",
+                "info.opt.include",
+                "info.opt.exclude",
                 "info.opt.v",
                 "info.opt.version"));
     }
@@ -116,15 +117,18 @@ public class Main extends JdecTool {
                 case DIR_SWITCH:
                     setFSDestination(DIR, ++i, argv);
                     break;
+                case "-include", "-exclude":
+                    addEntryGlob(arg.equals("-include"), ++i, argv);
+                    break;
                 case DUAL_LOG_SWITCH:
-                    this.environment.setOutputs(new DualOutputStreamOutput());
+                    this.environment.setOutputs(getDualStreamLog());
                     break;
                 case VERSION_SWITCH:
                     environment.println(FULL_VERSION);
-                    System.exit(OK);
+                    exit(OK);
                 case "-h", "-help":
                     usage();
-                    System.exit(OK);
+                    exit(OK);
                 case STDIN_SWITCH:
                     addStdIn();
                     break;
@@ -132,15 +136,19 @@ public class Main extends JdecTool {
                     if (arg.startsWith("-")) {
                         environment.error("err.invalid_option", arg);
                         usage();
-                        System.exit(FAILED);
+                        exit(FAILED);
                     } else {
-                        fileList.add(new FileInput(arg));
+                        fileList.add(new FileInput(resolve(arg)));
                     }
             }
         }
+        if (!openArchives()) {
+            environment.getLogger().flush();
+            exit(FAILED);
+        }
         if (fileList.isEmpty()) {
             usage();
-            System.exit(FAILED);
+            exit(FAILED);
         }
     }
 
@@ -154,34 +162,38 @@ public class Main extends JdecTool {
     @Override
     public synchronized int decode() {
         int rc = OK;
-        for (ToolInput toolInput : fileList) {
-            try {
-                environment.setToolInput(toolInput);
-                ClassData classData = new ClassData(environment);
-                classData.decodeClass();
-                environment.getOutputs().flush();
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+        try {
+            for (ToolInput toolInput : fileList) {
+                try {
+                    environment.setToolInput(toolInput);
+                    ClassData classData = new ClassData(environment);
+                    classData.decodeClass();
+                    environment.getOutputs().flush();
+                    rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+                    environment.getLogger().flush();
+                    continue;
+                } catch (FileNotFoundException fnf) {
+                    environment.printException(fnf);
+                    environment.error("err.not_found", toolInput);
+                    rc = FAILED;
+                } catch (IOException | ClassFormatError ioe) {
+                    environment.error(ioe);
+                    environment.printException(ioe);
+                    rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+                } catch (Error error) {
+                    environment.error(error);
+                    environment.printException(error);
+                    rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+                } catch (Exception ex) {
+                    environment.error(ex);
+                    environment.printException(ex);
+                    rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+                }
                 environment.getLogger().flush();
-                continue;
-            } catch (FileNotFoundException fnf) {
-                environment.printException(fnf);
-                environment.error("err.not_found", toolInput);
-                rc = FAILED;
-            } catch (IOException | ClassFormatError ioe) {
-                environment.error(ioe);
-                environment.printException(ioe);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
-            } catch (Error error) {
-                environment.error(error);
-                environment.printException(error);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
-            } catch (Exception ex) {
-                environment.error(ex);
-                environment.printException(ex);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+                break;
             }
-            environment.getLogger().flush();
-            break;
+        } finally {
+            closeArchives();
         }
         return rc;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -43,7 +44,7 @@ public class AnnotationData<T extends MemberData> extends MemberData {
         this.invisible = invisible;
     }
 
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
         type_cpx = in.readShort();
         int elemValueLength = in.readShort();
         for (int i = 0; i < elemValueLength; i++) {
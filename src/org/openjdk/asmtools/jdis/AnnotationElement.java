@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,8 +23,8 @@
 package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.function.Supplier;
@@ -53,7 +53,7 @@ public class AnnotationElement<T extends MemberData<T>> extends MemberData<T> {
     /*
      * Static factory - creates Annotation Elements.
      */
-    public static <P extends MemberData<P>> AnnotationValue<P> readValue(DataInputStream in, P data, boolean invisible) throws IOException {
+    public static <P extends MemberData<P>> AnnotationValue<P> readValue(ClassFileReader in, P data, boolean invisible) throws IOException {
         AnnotationValue<P> val;
         char tg = (char) in.readByte();
         AnnotationElementType tag = getAnnotationElementType(tg);
@@ -103,7 +103,7 @@ public class AnnotationElement<T extends MemberData<T>> extends MemberData<T> {
      * Read and resolve the method data called from ClassData. precondition: NumFields has
      * already been read from the stream.
      */
-    public void read(DataInputStream in, boolean invisible) throws IOException {
+    public void read(ClassFileReader in, boolean invisible) throws IOException {
         name_cpx = in.readShort();
         value = readValue(in, data, invisible);
         environment.traceln("AnnotationElement: cpIndex#%d=%s value=%s", name_cpx,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,9 +25,9 @@ package org.openjdk.asmtools.jdis;
 import org.openjdk.asmtools.asmutils.HexUtils;
 import org.openjdk.asmtools.common.Environment;
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.stream.Collectors;
@@ -53,7 +53,7 @@ public class AttrData {
         this.attributeInfo = attributeInfo;
     }
 
-    public void read(int name_cpx, int attrLength, DataInputStream in) throws IOException {
+    public void read(int name_cpx, int attrLength, ClassFileReader in) throws IOException {
         this.name_cpx = name_cpx;
         this.length = attrLength;
         try {
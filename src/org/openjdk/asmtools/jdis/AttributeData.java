@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,9 +24,9 @@ package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.common.FormatError;
 import org.openjdk.asmtools.common.ToolLogger;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.TableFormatModel;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.function.Supplier;
 
@@ -89,7 +89,7 @@ public abstract class AttributeData<A extends AttributeData<A>> extends Indenter
         }
     }
 
-    public A read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public A read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         if (attribute_length != this.attribute_length) {
             if (bestEffort) {
                 logger.error("err.invalid.attribute.length",
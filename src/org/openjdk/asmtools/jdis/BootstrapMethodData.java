@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 import java.util.ArrayList;
 
@@ -61,7 +62,7 @@ public class BootstrapMethodData extends Element<ClassData> {
     /**
      * Read and resolve the bootstrap method data called from ClassData.
      */
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
         // read the Methods CP indexes
         bsmRef = in.readUnsignedShort();
         numBsmArgs = in.readUnsignedShort();
@@ -73,10 +74,10 @@ public class BootstrapMethodData extends Element<ClassData> {
 
     @Override
     protected void jasmPrint(int index, int size) throws IOException {
-        int commentOffset = getCommentOffset() - TABLE_PADDING;
+        int commentOffset = getCommentOffset() - tablePadding;
         final BsmInfo bsmInfo = getBsmInfo();
 
-        printIndent(PadRight(BOOTSTRAPMETHOD.parseKey(), TABLE_PADDING));
+        printIndent(PadRight(BOOTSTRAPMETHOD.parseKey(), tablePadding));
         if (printCPIndex) {
             if (skipComments) {
                 println("#%d;".formatted(bsmRef));
@@ -88,11 +89,11 @@ public class BootstrapMethodData extends Element<ClassData> {
             }
         } else {
             println(formatOperandLine(
-                    "%s".formatted(bsmInfo.strBsm()), TABLE_PADDING + getIndentStep(), "",
+                    "%s".formatted(bsmInfo.strBsm()), tablePadding + getIndentStep(), "",
                     BootstrapMethodBreakPositions)
             );
         }
-        printIndent(PadRight(" ", TABLE_PADDING)).print("{ ");
+        printIndent(PadRight(" ", tablePadding)).print("{ ");
         if (numBsmArgs > 0) {
             println();
             incIndent(2);
@@ -101,7 +102,7 @@ public class BootstrapMethodData extends Element<ClassData> {
                     int argRef = bsmArguments.get(i);
                     String delim = (i != numBsmArgs - 1) ? "," : "";
                     boolean notLastIdx = i != numBsmArgs - 1;
-                    printIndent(PadRight(" ", TABLE_PADDING));
+                    printIndent(PadRight(" ", tablePadding));
                     if (skipComments) {
                         println("#%d%s".formatted(argRef, delim));
                     } else {
@@ -115,12 +116,12 @@ public class BootstrapMethodData extends Element<ClassData> {
                 }
             } else {
                 String strArgs = bsmInfo.cpx2Const().bsmArgsAsString(this);
-                printIndent(PadRight(" ", TABLE_PADDING - getIndentStep())).
-                        println(formatOperandLine(strArgs, TABLE_PADDING + getIndentStep() * 2, "",
+                printIndent(PadRight(" ", tablePadding - getIndentStep())).
+                        println(formatOperandLine(strArgs, tablePadding + getIndentStep() * 2, "",
                                 BootstrapArgumentsBreakPositions));
             }
             decIndent(2);
-            printIndent(PadRight(" ", TABLE_PADDING));
+            printIndent(PadRight(" ", tablePadding));
         }
         println("}");
         if (index < size - 1)
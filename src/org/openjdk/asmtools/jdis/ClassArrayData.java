@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,9 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 /**
@@ -65,7 +65,7 @@ public class ClassArrayData extends MemberData {
         this.token = token;
     }
 
-    public ClassArrayData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public ClassArrayData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         int number_of_entities = in.readUnsignedShort();
         if (attribute_length != 2 + number_of_entities * 2) {
             throw new ClassFormatError("%s_attribute: Invalid attribute length".formatted(token.parseKey()));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ import org.openjdk.asmtools.common.DecompilerLogger;
 import org.openjdk.asmtools.common.Environment;
 import org.openjdk.asmtools.common.FormatError;
 import org.openjdk.asmtools.common.SyntaxError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.inputs.FileInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
 import org.openjdk.asmtools.common.structure.CFVersion;
@@ -35,7 +36,6 @@ import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.common.structure.EModifier;
 import org.openjdk.asmtools.jdis.notations.Type;
 
-import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -46,6 +46,8 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -63,6 +65,7 @@ public class ClassData extends MemberData<ClassData> {
     // internal status of the class data
     private boolean alreadyPrinted = false;
     private boolean canBePrinted = false;           // Sufficient class info has been read and is now ready to be printed
+    private boolean memoizeRenderings = true;       // The constant pool renderings are memoized while the class is printed
 
     // Version info
     protected CFVersion cfVersion = new CFVersion();
@@ -141,6 +144,23 @@ public class ClassData extends MemberData<ClassData> {
     // Valhalla
     protected LoadableDescriptorsData loadableDescriptorsData;
 
+    // Selects the class and its members to print
+    protected MemberFilter memberFilter = new MemberFilter();
+
+    // false if the class isn't selected by the member filter, it's read up to this_class then
+    protected boolean selected = true;
+
+    // The execution profile the instructions are annotated with, null if there is no profile
+    protected ExecutionProfile profile;
+
+    // The members of a class having at least that many fields or methods are printed in parallel
+    private static final int PARALLEL_PRINTING_THRESHOLD = 256;
+
+    // The workers the members are printed on, their number, and the output routing their text if there are several
+    private ExecutorService memberWorkers;
+    private int threads = 1;
+    private MemberOutput memberOutput;
+
     // source file data
     private TextLines sourceLines = null;
     private Path classFile = null;
@@ -154,6 +174,42 @@ public class ClassData extends MemberData<ClassData> {
         super.init(this);
     }
 
+    void setMemberFilter(MemberFilter memberFilter) {
+        this.memberFilter = memberFilter;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    void setProfile(ExecutionProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @param memoizeRenderings false to render the constant pool entries every time they are printed, the output
+     *                          is the same
+     */
+    void setMemoizeRenderings(boolean memoizeRenderings) {
+        this.memoizeRenderings = memoizeRenderings;
+    }
+
+    /**
+     * Sets the workers the members of a large class are printed on. The members are read with
+     * the output of the class, so the workers are set before the class is read.
+     *
+     * @param workers the pool of worker threads shared by the classes, it is shut down by the caller
+     * @param threads the number of threads of the pool
+     */
+    void setMemberWorkers(ExecutorService workers, int threads) {
+        this.memberWorkers = workers;
+        this.threads = threads;
+        if (threads > 1 && memberOutput == null) {
+            memberOutput = new MemberOutput(toolOutput, environment);
+            toolOutput = memberOutput;
+        }
+    }
+
     public boolean isDetailedOutput() {
         return detailedOutput || extraDetailedOutput;
     }
@@ -161,7 +217,7 @@ public class ClassData extends MemberData<ClassData> {
     /**
      * Read and resolve the field data
      */
-    protected void readFields(DataInputStream in) throws IOException {
+    protected void readFields(ClassFileReader in) throws IOException {
         int nFields = in.readUnsignedShort();
         environment.traceln("fields=#" + nFields);
         fields = new Container<>(this, FieldData.class, nFields);
@@ -169,14 +225,16 @@ public class ClassData extends MemberData<ClassData> {
             FieldData field = new FieldData(this);
             environment.traceln("  FieldData: #" + k);
             field.read(in);
-            fields.add(field);
+            if (field.isSelected()) {
+                fields.add(field);
+            }
         }
     }
 
     /**
      * Read and resolve the method data
      */
-    protected void readMethods(DataInputStream in) throws IOException {
+    protected void readMethods(ClassFileReader in) throws IOException {
         int nMethods = in.readUnsignedShort();
         environment.traceln("methods=#" + nMethods);
         methods = new Container<>(this, MethodData.class, nMethods);
@@ -184,14 +242,16 @@ public class ClassData extends MemberData<ClassData> {
             MethodData method = new MethodData(this);
             environment.traceln("MethodData: #" + k);
             method.read(in);
-            methods.add(method);
+            if (method.isSelected()) {
+                methods.add(method);
+            }
         }
     }
 
     /**
      * Read and resolve the interface data
      */
-    protected void readInterfaces(DataInputStream in) throws IOException {
+    protected void readInterfaces(ClassFileReader in) throws IOException {
         // Read the interface names
         int nInterfaces = in.readUnsignedShort();
         environment.traceln("interfaces=#" + nInterfaces);
@@ -207,7 +267,7 @@ public class ClassData extends MemberData<ClassData> {
      * Read and resolve the attribute data
      */
     @Override
-    protected boolean handleAttributes(DataInputStream in, EAttribute attributeTag, int attributeLength) throws IOException {
+    protected boolean handleAttributes(ClassFileReader in, EAttribute attributeTag, int attributeLength) throws IOException {
         // Read the Attributes
         boolean handled = true;
         totalAttributes++;
@@ -292,7 +352,7 @@ public class ClassData extends MemberData<ClassData> {
     /**
      * Read and resolve the class data
      */
-    public void read(final DataInputStream in, final Path src) throws IOException {
+    public void read(final ClassFileReader in, final Path src) throws IOException {
         classFile = src;
         // Read the header
         try {
@@ -314,6 +374,12 @@ public class ClassData extends MemberData<ClassData> {
                     EModifier.asNames(access, EModifier.isModule(access) ? CLASS : MODULE),
                     this_cpx, super_cpx);
 
+            if (!memberFilter.selectsClass(pool.getClassName(this_cpx))) {
+                environment.traceln("\n<< The class isn't selected >>");
+                selected = false;
+                return;
+            }
+
             // Read the interfaces
             readInterfaces(in);
 
@@ -425,6 +491,9 @@ public class ClassData extends MemberData<ClassData> {
      */
     @Override
     public void print() throws IOException {
+        if (memoizeRenderings) {
+            pool.memoizeRenderings();
+        }
         if (COMPILATION_UNIT.get(className, access) == MODULE_INFO) {           // module-info compilation unit
             // Print the Annotations
             printAnnotations(visibleAnnotations, invisibleAnnotations);
@@ -508,6 +577,9 @@ public class ClassData extends MemberData<ClassData> {
             }
             alreadyPrinted = true;
         }
+        if (environment.isTraceFlag()) {
+            environment.traceln("Constant pool renderings memoized: " + pool.getRenderingStatistics());
+        }
 
         List<IOException> issues = pool.getIssues();
         if (!issues.isEmpty()) {
@@ -520,6 +592,7 @@ public class ClassData extends MemberData<ClassData> {
 
     protected void printClassIntroduction() throws IOException {
         printSysInfo();
+        printProfile();
         if (hasPackage()) {
             println(format("package %s;%n", packageName));
         }
@@ -558,6 +631,28 @@ public class ClassData extends MemberData<ClassData> {
         }
     }
 
+    /**
+     * Prints the methods of the class ranked by their samples if the execution profile is given (-profile option)
+     */
+    protected void printProfile() {
+        List<ExecutionProfile.MethodProfile> methodProfiles = profile == null ? List.of() : profile.getMethods(className);
+        if (!methodProfiles.isEmpty()) {
+            String prefix = " *  ";
+            long samples = methodProfiles.stream().mapToLong(methodProfile -> methodProfile.getSamples()).sum();
+            println("/*");
+            // the percentages don't depend on the locale, the output is compared as text
+            println(prefix + String.format(Locale.ROOT, "Execution profile: %d of %d samples (%.2f%%)", samples,
+                    profile.getTotalSamples(), ExecutionProfile.percentage(samples, profile.getTotalSamples())));
+            for (ExecutionProfile.MethodProfile methodProfile : methodProfiles) {
+                println(prefix + INDENT_STRING + String.format(Locale.ROOT, "#%-5d %8d %6.2f%%  %s:\"%s\"",
+                        methodProfile.getRank(), methodProfile.getSamples(),
+                        ExecutionProfile.percentage(methodProfile.getSamples(), profile.getTotalSamples()),
+                        methodProfile.getName(), methodProfile.getDescriptor()));
+            }
+            println(" */");
+        }
+    }
+
     @Override
     protected void printSysInfo() {
         if (sysInfo) {
@@ -746,7 +841,14 @@ public class ClassData extends MemberData<ClassData> {
     private boolean printMemberDataList(Container<? extends MemberData<ClassData>, ClassData> list,
                                         int commentOffset) throws IOException {
         if (list != null && list.size() > 0) {
-            list.setCommentOffset(commentOffset).print();
+            list.setCommentOffset(commentOffset);
+            if (memberOutput != null && list.size() >= PARALLEL_PRINTING_THRESHOLD && !environment.isTraceFlag()) {
+                // the workers share the constant pool, it is only read then
+                pool.decodeAll();
+                list.print(memberOutput, memberWorkers, threads);
+            } else {
+                list.print();
+            }
             return true;
         }
         return false;
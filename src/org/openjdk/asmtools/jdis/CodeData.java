@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,10 +25,10 @@ package org.openjdk.asmtools.jdis;
 import org.openjdk.asmtools.asmutils.HexUtils;
 import org.openjdk.asmtools.asmutils.Pair;
 import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.common.structure.StackMap;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.*;
 
@@ -50,9 +50,11 @@ import static org.openjdk.asmtools.jasm.OpcodeTables.opcode;
 public class CodeData extends MemberData<MethodData> {
 
     /**
-     * reversed bytecode index hash, associates labels with ByteCode indexes
+     * The instruction attributes (labels, stack map frames, traps etc.) indexed by ByteCode indexes 0..code.length,
+     * the attributes of the indexes outside the code, referred by malformed code only, are kept apart.
      */
-    private final HashMap<Integer, InstructionAttr> instructionAttrs = new HashMap<>();
+    private InstructionAttr[] instructionAttrs;
+    private TreeMap<Integer, InstructionAttr> outOfCodeAttrs;
     // Raw byte array for the byte codes
     protected byte[] code;
     // Limit for the stack size
@@ -137,26 +139,65 @@ public class CodeData extends MemberData<MethodData> {
     }
 
     protected InstructionAttr getInstructionAttribute(int pc) {
-        Integer PC = pc;
-        InstructionAttr res = instructionAttrs.get(PC);
+        InstructionAttr res = findInstructionAttribute(pc);
         if (res == null) {
             res = new InstructionAttr(this.data);
             res.setTheSame(this).incIndent();
-            instructionAttrs.put(PC, res);
+            if (pc >= 0 && pc <= code.length) {
+                if (instructionAttrs == null) {
+                    instructionAttrs = new InstructionAttr[code.length + 1];
+                }
+                instructionAttrs[pc] = res;
+            } else {
+                if (outOfCodeAttrs == null) {
+                    outOfCodeAttrs = new TreeMap<>();
+                }
+                outOfCodeAttrs.put(pc, res);
+            }
         }
         return res;
     }
 
+    /**
+     * @return the instruction attribute of the ByteCode index or null if the index has no attributes
+     */
+    private InstructionAttr findInstructionAttribute(int pc) {
+        if (pc >= 0 && pc <= code.length) {
+            return (instructionAttrs == null) ? null : instructionAttrs[pc];
+        }
+        return (outOfCodeAttrs == null) ? null : outOfCodeAttrs.get(pc);
+    }
+
     protected InstructionAttr getLastInstruction() {
-        return instructionAttrs.get(Collections.max(instructionAttrs.keySet()));
+        if (outOfCodeAttrs != null && outOfCodeAttrs.lastKey() > code.length) {
+            return outOfCodeAttrs.lastEntry().getValue();
+        }
+        if (instructionAttrs != null) {
+            for (int pc = code.length; pc >= 0; pc--) {
+                if (instructionAttrs[pc] != null) {
+                    return instructionAttrs[pc];
+                }
+            }
+        }
+        return outOfCodeAttrs.lastEntry().getValue();
     }
 
     protected InstructionAttr getFirstInstruction() {
-        return instructionAttrs.get(Collections.min(instructionAttrs.keySet()));
+        if (outOfCodeAttrs != null && outOfCodeAttrs.firstKey() < 0) {
+            return outOfCodeAttrs.firstEntry().getValue();
+        }
+        if (instructionAttrs != null) {
+            for (int pc = 0; pc <= code.length; pc++) {
+                if (instructionAttrs[pc] != null) {
+                    return instructionAttrs[pc];
+                }
+            }
+        }
+        return outOfCodeAttrs.firstEntry().getValue();
     }
 
     /* Read Methods */
-    private Container<LineNumberData, CodeData> readLineNumberTable(DataInputStream in, boolean ignoreMemorization) throws IOException {
+    private Container<LineNumberData, CodeData> readLineNumberTable(ClassFileReader in, boolean ignoreMemorization) throws IOException {
         int len = in.readInt(); // attr_length
         int nLines = in.readUnsignedShort();
         Container<LineNumberData, CodeData> table = ignoreMemorization ? null : new Container<>(this, LineNumberData.class, nLines);
@@ -170,7 +211,7 @@ public class CodeData extends MemberData<MethodData> {
         return table;
     }
 
-    private Container<LocalVariableData, CodeData> readLocalVariableTable(DataInputStream in, boolean ignoreMemorization) throws IOException {
+    private Container<LocalVariableData, CodeData> readLocalVariableTable(ClassFileReader in, boolean ignoreMemorization) throws IOException {
         int len = in.readInt(); // attr_length
         int nLines = in.readUnsignedShort();
         Container<LocalVariableData, CodeData> table = ignoreMemorization ? null : new Container<>(this, LocalVariableData.class, nLines);
@@ -184,7 +225,7 @@ public class CodeData extends MemberData<MethodData> {
         return table;
     }
 
-    private Container<LocalVariableTypeData, CodeData> readLocalVariableTypeTable(DataInputStream in, boolean ignoreMemorization) throws IOException {
+    private Container<LocalVariableTypeData, CodeData> readLocalVariableTypeTable(ClassFileReader in, boolean ignoreMemorization) throws IOException {
         int len = in.readInt(); // attr_length
         int nLines = in.readUnsignedShort();
         Container<LocalVariableTypeData, CodeData> table = ignoreMemorization ? null : new Container<>(this, LocalVariableTypeData.class, nLines);
@@ -198,7 +239,7 @@ public class CodeData extends MemberData<MethodData> {
         return table;
     }
 
-    private void readTrapTable(DataInputStream in) throws IOException {
+    private void readTrapTable(ClassFileReader in) throws IOException {
         int trap_table_len = in.readUnsignedShort();
         environment.traceln("CodeAttr:  TrapTable[%d]", trap_table_len);
         trap_table = new ArrayList<>(trap_table_len);
@@ -207,7 +248,7 @@ public class CodeData extends MemberData<MethodData> {
         }
     }
 
-    private void readStackMapEntity(EAttribute attribute, DataInputStream in) throws IOException {
+    private void readStackMapEntity(EAttribute attribute, ClassFileReader in) throws IOException {
         int len = in.readInt(); // attr_length
         int stackMapLength = in.readUnsignedShort();
         stackMapTable = new StackMapTable(attribute, this, stackMapLength);
@@ -258,7 +299,7 @@ public class CodeData extends MemberData<MethodData> {
     }
 
 
-    private void readTypeAnnotations(DataInputStream in, boolean isInvisible) throws IOException {
+    private void readTypeAnnotations(ClassFileReader in, boolean isInvisible) throws IOException {
         int attrLength = in.readInt();
         // Read Type Annotations Attr
         int count = in.readShort();
@@ -281,7 +322,7 @@ public class CodeData extends MemberData<MethodData> {
      * Read and resolve the code attribute data called from MethodData. precondition:
      * NumFields has already been read from the stream.
      */
-    public void read(DataInputStream in, int codeAttrLength) throws IOException {
+    public void read(ClassFileReader in, int codeAttrLength) throws IOException {
         // Read the code in the Code Attribute
         max_stack = in.readUnsignedShort();
         max_locals = in.readUnsignedShort();
@@ -291,7 +332,7 @@ public class CodeData extends MemberData<MethodData> {
 
         // read the raw code bytes
         code = new byte[codelen];
-        in.read(code, 0, codelen);
+        in.readFully(code);
 
         //read the trap table
         readTrapTable(in);
@@ -480,8 +521,8 @@ public class CodeData extends MemberData<MethodData> {
         switch (opcode) {
             case opc_nonpriv, opc_priv -> {
                 int count = 1;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count) {
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count) {
                     opc2 = getUByte(pc + 1);
                     int finalopc = (opc << 8) + opc2;
                     opcode2 = opcode(finalopc);
@@ -495,14 +536,14 @@ public class CodeData extends MemberData<MethodData> {
                         println(opcode2.parseKey() + ";");
                     }
                 } else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 2;
             }
             case opc_wide -> {
                 int count = 1;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() != count) {
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes != count) {
+                    printBytes(pc, validBytes, shift);
                     return 1;
                 }
                 opc2 = getUByte(pc + 1);
@@ -519,19 +560,19 @@ public class CodeData extends MemberData<MethodData> {
                 if (opcode2 == Opcode.opc_iinc_w) {
                     count = 5;
                     validBytes = checkCodeBounds(pc, 5);
-                    if (validBytes.size() == count) {
+                    if (validBytes == count) {
                         print(PadRight(mnem, OPERAND_PLACEHOLDER_LENGTH + 1));
                         println("%d, %d;", getUShort(pc + 2), getUShort(pc + 4));
                     } else
-                        printBytes(opcode.byteValue(), validBytes, shift);
+                        printBytes(pc, validBytes, shift);
                     return 6;
                 } else {
                     count = 3;
                     validBytes = checkCodeBounds(pc, 3);
-                    if (validBytes.size() == count) {
+                    if (validBytes == count) {
                         print(PadRight(mnem, OPERAND_PLACEHOLDER_LENGTH + 1)).println("%d;", getUShort(pc + 2));
                     } else
-                        printBytes(opcode.byteValue(), validBytes, shift);
+                        printBytes(pc, validBytes, shift);
                     return 4;
                 }
             }
@@ -552,21 +593,21 @@ public class CodeData extends MemberData<MethodData> {
             case opc_aload, opc_astore, opc_fload, opc_fstore, opc_iload, opc_istore, opc_lload, opc_lstore, opc_dload,
                  opc_dstore, opc_ret -> {
                 int count = 1;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).println(getUByte(pc + 1) + ";");
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 2;
             }
             case opc_iinc -> {
                 int count = 2;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).
                             println("%d, %d;", getUByte(pc + 1), getByte(pc + 2));
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 3;
             }
             case opc_tableswitch -> {
@@ -637,8 +678,8 @@ public class CodeData extends MemberData<MethodData> {
             }
             case opc_newarray -> {
                 int count = 1;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count) {
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count) {
                     int tp = getUByte(pc + 1);
                     BasicType basicType = getBasicType(tp);
                     if (basicType == null) {
@@ -649,7 +690,7 @@ public class CodeData extends MemberData<MethodData> {
                                 println(basicType.printValue() + ";");
                     }
                 } else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 2;
             }
             case opc_ldc, opc_ldc_w, opc_ldc2_w, opc_invokedynamic -> {
@@ -707,8 +748,8 @@ public class CodeData extends MemberData<MethodData> {
             case opc_anewarray, opc_instanceof, opc_checkcast, opc_new, opc_putstatic, opc_getstatic, opc_putfield,
                  opc_getfield, opc_invokevirtual, opc_invokespecial, opc_invokestatic -> {
                 int count = 2;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count) {
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count) {
                     int index = getUShort(pc + 1);
                     if (printCPIndex) {
                         if (skipComments) {
@@ -722,13 +763,13 @@ public class CodeData extends MemberData<MethodData> {
                         println(pool.ConstantStrValue(index) + ";");
                     }
                 } else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 3;
             }
             case opc_multianewarray, opc_invokeinterface -> {
                 int count = opcode == Opcode.opc_multianewarray ? 3 : 4;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count) {
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count) {
                     int index = getUShort(pc + 1);
                     int dimensions = getUByte(pc + 3);  // nargs in case of opc_invokeinterface
                     if (printCPIndex) {
@@ -743,48 +784,48 @@ public class CodeData extends MemberData<MethodData> {
                         println("%s, %d;", pool.ConstantStrValue(index), dimensions);
                     }
                 } else {
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 }
                 return count + 1;
             }
             case opc_sipush -> {
                 int count = 2;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).println(getShort(pc + 1) + ";");
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 3;
             }
             case opc_bipush -> {
                 int count = 1;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).println(getByte(pc + 1) + ";");
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 2;
             }
             case opc_jsr, opc_goto, opc_ifeq, opc_ifge, opc_ifgt, opc_ifle, opc_iflt, opc_ifne, opc_if_icmpeq,
                  opc_if_icmpne, opc_if_icmpge, opc_if_icmpgt, opc_if_icmple, opc_if_icmplt, opc_if_acmpeq,
                  opc_if_acmpne, opc_ifnull, opc_ifnonnull -> {
                 int count = 2;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).
                             println(data.getLabelPrefix() + (pc + getShort(pc + 1)) + ";");
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 3;
             }
             case opc_jsr_w, opc_goto_w -> {
                 int count = 4;
-                List<Byte> validBytes = checkCodeBounds(pc, count);
-                if (validBytes.size() == count)
+                int validBytes = checkCodeBounds(pc, count);
+                if (validBytes == count)
                     print(PadRight(operand, OPERAND_PLACEHOLDER_LENGTH + 1)).
                             println(data.getLabelPrefix() + (pc + getInt(pc + 1)) + ";");
                 else
-                    printBytes(opcode.byteValue(), validBytes, shift);
+                    printBytes(pc, validBytes, shift);
                 return 5;
             }
             default -> {
@@ -795,17 +836,19 @@ public class CodeData extends MemberData<MethodData> {
     } // end printInstr
 
     /**
-     * @param opcode byte encoding of an instruction
-     * @param bytes  bytes corresponding to the instruction's parameters
-     * @param shift  printing indentation for output bytes
+     * Prints a truncated instruction byte by byte
+     *
+     * @param pc    code index of the instruction
+     * @param count number of the instruction's parameter bytes that belong to the code attribute
+     * @param shift printing indentation for output bytes
      */
-    private void printBytes(byte opcode, List<Byte> bytes, int shift) {
+    private void printBytes(int pc, int count, int shift) {
         print(PadRight(opc_bytecode.parseKey(), OPERAND_PLACEHOLDER_LENGTH + 1)).
-                println(HexUtils.toHex(opcode) + ";");
-        for (byte b : bytes) {
+                println(HexUtils.toHex(code[pc]) + ";");
+        for (int i = pc + 1; i <= pc + count; i++) {
             printPadLeft(" ", shift).
                     print(PadRight(opc_bytecode.parseKey(), OPERAND_PLACEHOLDER_LENGTH + 1)).
-                    println(HexUtils.toHex(b) + ";");
+                    println(HexUtils.toHex(code[i]) + ";");
         }
     }
 
@@ -814,19 +857,11 @@ public class CodeData extends MemberData<MethodData> {
      *
      * @param ind   code index of the instruction
      * @param count number of bytes corresponding to the instruction's parameters
-     * @return The list of bytes corresponds to the instruction's parameters that belong to the code attribute.
-     * If the count does not match the list size, it indicates that the instruction is truncated.
+     * @return The number of bytes corresponding to the instruction's parameters that belong to the code attribute.
+     * If it does not match the count, it indicates that the instruction is truncated.
      */
-    private List<Byte> checkCodeBounds(int ind, int count) {
-        List<Byte> list = new ArrayList<>();
-        int codeLength = code.length;
-        for (int i = 1; i <= count; i++) {
-            if (ind + i < codeLength)
-                list.add(code[i]);
-            else
-                return list;
-        }
-        return list;
+    private int checkCodeBounds(int ind, int count) {
+        return Math.max(0, Math.min(count, code.length - ind - 1));
     }
 
     private Pair<Integer, Integer>[] getLookupswitchPairs(int pad, int count)  {
@@ -873,10 +908,12 @@ public class CodeData extends MemberData<MethodData> {
         // Print Code Attribute
         printIndentLn("{");
 
-        InstructionAttr insAttr = instructionAttrs.get(0);
+        InstructionAttr insAttr = findInstructionAttribute(0);
 
         setCommentOffset(getCommentOffset() - instructionOffset - getIndentSize());
 
+        ExecutionProfile.MethodProfile methodProfile = data.getProfile();
+
         for (int pc = 0; pc < code.length; ) {
 
             if (insAttr != null) {
@@ -886,6 +923,14 @@ public class CodeData extends MemberData<MethodData> {
                 decIndent();
             }
 
+            if (methodProfile != null && methodProfile.getSamples(pc) > 0) {
+                // the samples of the instruction and their share in the samples of the method
+                printIndent(PadRight(" ", instructionOffset)).
+                        println(String.format(Locale.ROOT, "%s// samples: %d (%.2f%%)",
+                                data.printProgramCounter ? INDENT_STRING : "", methodProfile.getSamples(pc),
+                                ExecutionProfile.percentage(methodProfile.getSamples(pc), methodProfile.getSamples())));
+            }
+
             if (data.printProgramCounter) {
                 incIndent();
                 printIndent(PadRight(format("%2d:", pc), instructionOffset));
@@ -902,7 +947,7 @@ public class CodeData extends MemberData<MethodData> {
             }
 
             pc = pc + printInstrLn(pc, attributeOffset + getIndentSize());
-            insAttr = instructionAttrs.get(pc);
+            insAttr = findInstructionAttribute(pc);
             if (insAttr != null) {
                 insAttr.printEnds(attributeOffset);
                 decIndent();
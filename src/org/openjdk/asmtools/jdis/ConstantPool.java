@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,11 +26,13 @@ import org.openjdk.asmtools.asmutils.HexUtils;
 import org.openjdk.asmtools.asmutils.Range;
 import org.openjdk.asmtools.asmutils.StringUtils;
 import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
 
-import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Function;
 
 import static java.lang.Math.max;
@@ -45,40 +47,39 @@ public class ConstantPool extends Indenter {
     public static final Function<Integer, String> funcInvalidCPIndex =
             index -> "??? Invalid constant_pool reference #%d".formatted(index);
 
-    private static final Hashtable<Byte, TAG> tagHash = new Hashtable<>();
-    private static final Hashtable<Byte, SUBTAG> subTagHash = new Hashtable<>();
+    // Tags and method handle subtags indexed by their unsigned byte value: the lookups take no lock and box nothing
+    private static final TAG[] tagTable = new TAG[256];
+    private static final SUBTAG[] subTagTable = new SUBTAG[256];
 
     // Class initializer Code
     static {
         // Make sure all the tags get initialized before being used.
-        tagHash.put(TAG.CONSTANT_UTF8.value(), TAG.CONSTANT_UTF8);
-        // Obsolete: tagHash.put(TAG.CONSTANT_UNICODE.value(), TAG.CONSTANT_UNICODE);
-        tagHash.put(TAG.CONSTANT_INTEGER.value(), TAG.CONSTANT_INTEGER);
-        tagHash.put(TAG.CONSTANT_FLOAT.value(), TAG.CONSTANT_FLOAT);
-        tagHash.put(TAG.CONSTANT_LONG.value(), TAG.CONSTANT_LONG);
-        tagHash.put(TAG.CONSTANT_DOUBLE.value(), TAG.CONSTANT_DOUBLE);
-        tagHash.put(TAG.CONSTANT_CLASS.value(), TAG.CONSTANT_CLASS);
-        tagHash.put(TAG.CONSTANT_STRING.value(), TAG.CONSTANT_STRING);
-        tagHash.put(TAG.CONSTANT_FIELD.value(), TAG.CONSTANT_FIELD);
-        tagHash.put(TAG.CONSTANT_METHOD.value(), TAG.CONSTANT_METHOD);
-        tagHash.put(TAG.CONSTANT_INTERFACEMETHOD.value(), TAG.CONSTANT_INTERFACEMETHOD);
-        tagHash.put(TAG.CONSTANT_NAMEANDTYPE.value(), TAG.CONSTANT_NAMEANDTYPE);
-        tagHash.put(TAG.CONSTANT_METHODHANDLE.value(), TAG.CONSTANT_METHODHANDLE);
-        tagHash.put(TAG.CONSTANT_METHODTYPE.value(), TAG.CONSTANT_METHODTYPE);
-        tagHash.put(TAG.CONSTANT_DYNAMIC.value(), TAG.CONSTANT_DYNAMIC);
-        tagHash.put(TAG.CONSTANT_INVOKEDYNAMIC.value(), TAG.CONSTANT_INVOKEDYNAMIC);
-        tagHash.put(TAG.CONSTANT_MODULE.value(), TAG.CONSTANT_MODULE);
-        tagHash.put(TAG.CONSTANT_PACKAGE.value(), TAG.CONSTANT_PACKAGE);
-
-        subTagHash.put(SUBTAG.REF_GETFIELD.value(), SUBTAG.REF_GETFIELD);
-        subTagHash.put(SUBTAG.REF_GETSTATIC.value(), SUBTAG.REF_GETSTATIC);
-        subTagHash.put(SUBTAG.REF_PUTFIELD.value(), SUBTAG.REF_PUTFIELD);
-        subTagHash.put(SUBTAG.REF_PUTSTATIC.value(), SUBTAG.REF_PUTSTATIC);
-        subTagHash.put(SUBTAG.REF_INVOKEVIRTUAL.value(), SUBTAG.REF_INVOKEVIRTUAL);
-        subTagHash.put(SUBTAG.REF_INVOKESTATIC.value(), SUBTAG.REF_INVOKESTATIC);
-        subTagHash.put(SUBTAG.REF_INVOKESPECIAL.value(), SUBTAG.REF_INVOKESPECIAL);
-        subTagHash.put(SUBTAG.REF_NEWINVOKESPECIAL.value(), SUBTAG.REF_NEWINVOKESPECIAL);
-        subTagHash.put(SUBTAG.REF_INVOKEINTERFACE.value(), SUBTAG.REF_INVOKEINTERFACE);
+        registerTag(TAG.CONSTANT_UTF8);
+        // Obsolete: registerTag(TAG.CONSTANT_UNICODE);
+        registerTag(TAG.CONSTANT_INTEGER);
+        registerTag(TAG.CONSTANT_FLOAT);
+        registerTag(TAG.CONSTANT_LONG);
+        registerTag(TAG.CONSTANT_DOUBLE);
+        registerTag(TAG.CONSTANT_CLASS);
+        registerTag(TAG.CONSTANT_STRING);
+        registerTag(TAG.CONSTANT_FIELD);
+        registerTag(TAG.CONSTANT_METHOD);
+        registerTag(TAG.CONSTANT_INTERFACEMETHOD);
+        registerTag(TAG.CONSTANT_NAMEANDTYPE);
+        registerTag(TAG.CONSTANT_METHODHANDLE);
+        registerTag(TAG.CONSTANT_METHODTYPE);
+        registerTag(TAG.CONSTANT_DYNAMIC);
+        registerTag(TAG.CONSTANT_INVOKEDYNAMIC);
+        registerTag(TAG.CONSTANT_MODULE);
+        registerTag(TAG.CONSTANT_PACKAGE);
+
+        for (SUBTAG subtag : SUBTAG.values()) {
+            subTagTable[Byte.toUnsignedInt(subtag.value())] = subtag;
+        }
+    }
+
+    private static void registerTag(TAG tag) {
+        tagTable[Byte.toUnsignedInt(tag.value())] = tag;
     }
 
     /**
@@ -88,12 +89,39 @@ public class ConstantPool extends Indenter {
     private Environment environment;
 
     /**
-     * The actual pool of Constants
+     * The actual pool of Constants. Unless the pool is printed, the entries are decoded lazily: reading the class
+     * records only the tag and the offset of each entry, and the entry is decoded from the class file data the first
+     * time it is used. The entries skipped by reading are still checked, so a malformed class fails with either.
      */
-    private ArrayList<Constant> pool;
+    private Constant<?>[] pool;
+    private TAG[] tags;
+    private int[] offsets;
+    private int size;
+    // the class file data the lazy entries are decoded from, null if the pool is decoded eagerly
+    private ClassFileReader data;
     private Range<Integer> range;
 
-    private boolean printTAG = false;
+    // Whether the tags of the entries are printed, confined to the thread printing a member of the class
+    private final ThreadLocal<Boolean> printTAG = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    // The dynamic constants and invokedynamic call sites whose bootstrap arguments are being rendered by the thread,
+    // used to detect circular references
+    private final ThreadLocal<Set<Constant<?>>> renderedBsmArguments =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * The ways the entries are rendered by {@link #StringValue}, {@link #ConstantStrValue} and {@link #getClassName}
+     */
+    public enum Rendering {
+        STRING_VALUE, CONSTANT_STR_VALUE, CLASS_NAME
+    }
+
+    // The memoized renderings of the entries by rendering and the printTAG flag, null until the class is printed:
+    // the class name rendering depends on the package of the class which is known after the class is read.
+    // The members printed in parallel share the memo: a rendering is an immutable string, so a racing write
+    // only renders the entry once more, counted as a miss.
+    private String[][] renderings = null;
+    private final AtomicLongArray renderingHits = new AtomicLongArray(Rendering.values().length);
+    private final AtomicLongArray renderingMisses = new AtomicLongArray(Rendering.values().length);
 
     /* ConstantPool Constructors */
     public ConstantPool(ClassData cd) {
@@ -105,24 +133,86 @@ public class ConstantPool extends Indenter {
         this.classData = classData;
         this.environment = classData.environment;
         tableToken = CONSTANT_POOL;
-        pool = new ArrayList<>(size);
+        pool = new Constant<?>[size];
+        tags = new TAG[size];
+        offsets = new int[size];
     }
 
     public void setPrintTAG(boolean value) {
-        this.printTAG = value;
+        this.printTAG.set(value);
+    }
+
+    /**
+     * Starts memoizing the renderings of the entries, so each entry is rendered once while the class is printed.
+     * The entries of dynamic constants and invokedynamic call sites aren't memoized: their rendering depends on
+     * the bootstrap arguments being rendered, see {@link CPX2#bsmArgAsString(int, String, String)}.
+     */
+    public void memoizeRenderings() {
+        if (renderings == null) {
+            renderings = new String[Rendering.values().length * 2][size];
+        }
+    }
+
+    /**
+     * @return the number of renderings of the entries taken from the memo
+     */
+    public long getRenderingHits(Rendering rendering) {
+        return renderingHits.get(rendering.ordinal());
+    }
+
+    /**
+     * @return the number of renderings of the entries made while the renderings were memoized
+     */
+    public long getRenderingMisses(Rendering rendering) {
+        return renderingMisses.get(rendering.ordinal());
+    }
+
+    /**
+     * @return the statistics of the memoized renderings: hits, misses and hit rate of every rendering
+     */
+    public String getRenderingStatistics() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Rendering rendering : Rendering.values()) {
+            long hits = getRenderingHits(rendering), misses = getRenderingMisses(rendering);
+            joiner.add(String.format(Locale.ROOT, "%s %d/%d (%.1f%%)", rendering, hits, hits + misses,
+                    hits + misses == 0 ? 0.0 : hits * 100.0 / (hits + misses)));
+        }
+        return joiner.toString();
+    }
+
+    // returns the memoized rendering of the entry, or null if the rendering is not memoized yet
+    private String memoized(Rendering rendering, int cpx) {
+        if (renderings == null || cpx <= 0 || cpx >= size) {
+            return null;
+        }
+        String value = renderings[rendering.ordinal() * 2 + (printTAG.get() ? 1 : 0)][cpx];
+        if (value != null) {
+            renderingHits.incrementAndGet(rendering.ordinal());
+        }
+        return value;
+    }
+
+    private String memoize(Rendering rendering, int cpx, String value) {
+        if (renderings != null && cpx > 0 && cpx < size) {
+            renderingMisses.incrementAndGet(rendering.ordinal());
+            if (tags[cpx] != TAG.CONSTANT_DYNAMIC && tags[cpx] != TAG.CONSTANT_INVOKEDYNAMIC) {
+                renderings[rendering.ordinal() * 2 + (printTAG.get() ? 1 : 0)][cpx] = value;
+            }
+        }
+        return value;
     }
 
     public String getPrintedTAG(TAG tag) {
-        return (this.printTAG) ? tag.tagName + " " : "";
+        return printTAG.get() ? tag.tagName + " " : "";
     }
 
     public int size() {
-        return pool.size();
+        return size;
     }
 
     public boolean inRange(int value) {
         if (range == null) {
-            range = new Range<>(1, pool.size() - 1);
+            range = new Range<>(1, size - 1);
         }
         return range.in(value);
     }
@@ -130,17 +220,21 @@ public class ConstantPool extends Indenter {
     /**
      * decodes a ConstantPool and it's constants from a data stream.
      */
-    ConstantPool read(DataInputStream in) throws IOException {
+    ConstantPool read(ClassFileReader in) throws IOException {
         // constant_pool_count
         //The value of the constant_pool_count item is equal to the number of entries in the constant_pool table plus one.
         int constant_pool_count = in.readUnsignedShort();
         int tagSize;
-        pool = new ArrayList<>(constant_pool_count);
-        pool.add(0, null);
+        // the last entry may be a long or a double taking up 2 slots
+        pool = new Constant<?>[constant_pool_count + 1];
+        tags = new TAG[constant_pool_count + 1];
+        offsets = new int[constant_pool_count + 1];
+        data = printConstantPool ? null : in.at(in.position());
         environment.traceln("constant_pool_count = " + constant_pool_count);
-        for (int i = 1; i < constant_pool_count; i += tagSize) {
+        int i = 1;
+        for (; i < constant_pool_count; i += tagSize) {
             byte tagByte = in.readByte();
-            TAG tag = tagHash.get(tagByte);
+            TAG tag = tagTable[Byte.toUnsignedInt(tagByte)];
             if (tag == null) {
                 throw new ClassFormatError(
                         format("Error while reading constant pool for %s: unexpected tag at #%d: %d",
@@ -148,38 +242,96 @@ public class ConstantPool extends Indenter {
             }
             tagSize = tag.size();
             environment.traceln("\tCP entry #" + i + " tag[" + tagByte + "]\t=\t" + tag);
-            switch (tag) {
-                case CONSTANT_UTF8 -> pool.add(i, new CP_Str(tag, in.readUTF()));
-                case CONSTANT_INTEGER -> pool.add(i, new CP_Int(tag, in.readInt()));
-                case CONSTANT_LONG -> {
-                    pool.add(i, new CP_Long(tag, in.readLong()));
-                    // handle null entry to account for Longs taking up 2 CP slots
-                    pool.add(null);
-                }
-                case CONSTANT_FLOAT -> pool.add(i, new CP_Float(tag, in.readFloat()));
-                case CONSTANT_DOUBLE -> {
-                    pool.add(i, new CP_Double(tag, in.readDouble()));
-                    // handle null entry to account for Doubles taking up 2 CP slots
-                    pool.add(null);
-                }
-                case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHODTYPE, CONSTANT_PACKAGE, CONSTANT_MODULE ->
-                        pool.add(i, new CPX(tag, in.readUnsignedShort()));
-                case CONSTANT_FIELD, CONSTANT_METHOD, CONSTANT_INTERFACEMETHOD, CONSTANT_NAMEANDTYPE, CONSTANT_DYNAMIC,
-                     CONSTANT_INVOKEDYNAMIC ->
-                        pool.add(i, new CPX2(tag, in.readUnsignedShort(), in.readUnsignedShort()));
-                case CONSTANT_METHODHANDLE -> pool.add(i, new CPX2(tag, in.readUnsignedByte(), in.readUnsignedShort()));
-                default -> throw new ClassFormatError("invalid constant type: " + (int) tagByte);
+            tags[i] = tag;
+            offsets[i] = in.position();
+            if (data == null) {
+                pool[i] = decode(tag, in);
+            } else {
+                skip(tag, in);
             }
         }
+        size = max(1, i);
         return this;
     }
 
+    /**
+     * Decodes the constant following its tag
+     */
+    private Constant<?> decode(TAG tag, ClassFileReader in) throws IOException {
+        return switch (tag) {
+            case CONSTANT_UTF8 -> new CP_Str(tag, in.readUTF());
+            case CONSTANT_INTEGER -> new CP_Int(tag, in.readInt());
+            case CONSTANT_LONG -> new CP_Long(tag, in.readLong());
+            case CONSTANT_FLOAT -> new CP_Float(tag, in.readFloat());
+            case CONSTANT_DOUBLE -> new CP_Double(tag, in.readDouble());
+            case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHODTYPE, CONSTANT_PACKAGE, CONSTANT_MODULE ->
+                    new CPX(tag, in.readUnsignedShort());
+            case CONSTANT_FIELD, CONSTANT_METHOD, CONSTANT_INTERFACEMETHOD, CONSTANT_NAMEANDTYPE, CONSTANT_DYNAMIC,
+                 CONSTANT_INVOKEDYNAMIC -> new CPX2(tag, in.readUnsignedShort(), in.readUnsignedShort());
+            case CONSTANT_METHODHANDLE -> new CPX2(tag, in.readUnsignedByte(), in.readUnsignedShort());
+            default -> throw new ClassFormatError("invalid constant type: " + tag.value());
+        };
+    }
+
+    /**
+     * Skips the constant following its tag. The checks of {@link #decode} are done anyway, e.g. the UTF-8 bytes
+     * are validated, so the class fails the same way as if the constant was decoded.
+     */
+    private void skip(TAG tag, ClassFileReader in) throws IOException {
+        if (tag == TAG.CONSTANT_UTF8) {
+            in.skipUTF();
+            return;
+        }
+        int length = switch (tag) {
+            case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELD, CONSTANT_METHOD, CONSTANT_INTERFACEMETHOD,
+                 CONSTANT_NAMEANDTYPE, CONSTANT_DYNAMIC, CONSTANT_INVOKEDYNAMIC -> 4;
+            case CONSTANT_LONG, CONSTANT_DOUBLE -> 8;
+            case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHODTYPE, CONSTANT_PACKAGE, CONSTANT_MODULE -> 2;
+            case CONSTANT_METHODHANDLE -> 3;
+            default -> throw new ClassFormatError("invalid constant type: " + tag.value());
+        };
+        if (in.skipBytes(length) < length) {
+            throw new EOFException();
+        }
+    }
+
+    /**
+     * Gets the constant at the index, decoding it if it is used for the first time.
+     * Concurrent decoding of the same entry is harmless: the decoded constants are equal and immutable.
+     */
+    private Constant<?> get(int cpx) {
+        Constant<?> constant = pool[cpx];
+        if (constant == null && data != null && tags[cpx] != null) {
+            try {
+                constant = decode(tags[cpx], data.at(offsets[cpx]));
+            } catch (IOException ioe) {
+                throw new ClassFormatError(format("Error while reading constant pool for %s: %s at #%d",
+                        environment.getToolInput(), ioe, cpx));
+            }
+            pool[cpx] = constant;
+        }
+        return constant;
+    }
+
+    /**
+     * Decodes the entries that aren't used yet, so the pool is only read while the members are printed in parallel.
+     * A malformed entry is left to be reported when it is used, as it is in the sequential printing.
+     */
+    public void decodeAll() {
+        for (int cpx = 1; cpx < size; cpx++) {
+            try {
+                getConst(cpx);
+            } catch (ClassFormatError ignored) {
+            }
+        }
+    }
+
     /**
      * Public getter - Safely gets a Constant from the CP at a given index.
      */
     public Constant getConst(int cpx) {
         if (inRange(cpx)) {
-            return pool.get(cpx);
+            return get(cpx);
         } else {
             return null;
         }
@@ -194,7 +346,7 @@ public class ConstantPool extends Indenter {
     public String getString(int cpx, Function<Integer, String> funcGetDefaultString) {
         String str = funcGetDefaultString.apply(cpx);
         if (inRange(cpx)) {
-            Constant cns = pool.get(cpx);
+            Constant cns = get(cpx);
             if (cns != null && cns.tag == TAG.CONSTANT_UTF8) {
                 CP_Str cns1 = (CP_Str) cns;
                 str = cns1.value;
@@ -212,7 +364,7 @@ public class ConstantPool extends Indenter {
     public String getModuleName(int cpx, Function<Integer, String> funcGetDefaultModuleName) {
         String str = funcGetDefaultModuleName.apply(cpx);
         if (inRange(cpx)) {
-            Constant cns = pool.get(cpx);
+            Constant cns = get(cpx);
             if (cns != null && cns.tag == TAG.CONSTANT_MODULE) {
                 str = cns.stringVal();
             }
@@ -233,7 +385,7 @@ public class ConstantPool extends Indenter {
     public String getPackageName(int cpx, Function<Integer, String> funcGetDefaultPackageName) {
         String str = funcGetDefaultPackageName.apply(cpx);
         if (inRange(cpx)) {
-            Constant cns = pool.get(cpx);
+            Constant cns = get(cpx);
             if (cns != null && cns.tag == TAG.CONSTANT_PACKAGE) {
                 str = cns.stringVal();
             }
@@ -268,7 +420,7 @@ public class ConstantPool extends Indenter {
     }
 
     public String getMethodName(int cpx) {
-        Constant<?> cns = pool.get(cpx);
+        Constant<?> cns = get(cpx);
         if (cns != null && cns instanceof CPX2 cpx2) {
             return cpx2.stringVal();
         } else {
@@ -284,7 +436,7 @@ public class ConstantPool extends Indenter {
      * @return a string presentation of the CONSTANT_NameAndType_info structure
      */
     public String getFieldNameTypeAsString(int cpx) {
-        Constant<?> cns = pool.get(cpx);
+        Constant<?> cns = get(cpx);
         if (cns == null || (cns.tag != TAG.CONSTANT_NAMEANDTYPE) || referredBy(cpx, TAG.CONSTANT_METHOD,
                 TAG.CONSTANT_INTERFACEMETHOD, TAG.CONSTANT_METHODHANDLE, TAG.CONSTANT_DYNAMIC, TAG.CONSTANT_INVOKEDYNAMIC)) {
             String msg = environment.getLogger().getResourceString("warn.field.nametype.required", cpx);
@@ -294,9 +446,12 @@ public class ConstantPool extends Indenter {
     }
 
     public boolean referredBy(int cpx, TAG... tags) {
-        Optional<Constant> cns = pool.stream().filter(item -> item != null &&
-                item.tag.belongsTo(tags)).filter(c -> ((CPX2) c).value2 == cpx).findFirst();
-        return cns.isPresent();
+        for (int i = 1; i < size; i++) {
+            if (this.tags[i] != null && this.tags[i].belongsTo(tags) && ((CPX2) get(i)).value2 == cpx) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -327,7 +482,7 @@ public class ConstantPool extends Indenter {
         if (!inRange(cpx)) {
             return null;
         }
-        Constant cns = pool.get(cpx);
+        Constant cns = get(cpx);
         if (cns == null || cns.tag != TAG.CONSTANT_CLASS) {
             return null;
         }
@@ -358,11 +513,16 @@ public class ConstantPool extends Indenter {
      * Helper for getting class name. It checks ConstantPool bounds, does name conversion.
      */
     private String _getClassName(int nameIndex) {
+        String value = memoized(Rendering.CLASS_NAME, nameIndex);
+        return value != null ? value : memoize(Rendering.CLASS_NAME, nameIndex, renderClassName(nameIndex));
+    }
+
+    private String renderClassName(int nameIndex) {
         String res = "#" + nameIndex;
         if (!inRange(nameIndex)) {
             return res;
         }
-        Constant nameConst = pool.get(nameIndex);
+        Constant nameConst = get(nameIndex);
         if (nameConst == null || nameConst.tag != TAG.CONSTANT_UTF8) {
             return res;
         }
@@ -407,7 +567,7 @@ public class ConstantPool extends Indenter {
      * Getter that safely gets the string descriptor of a subtag
      */
     private String subtagToString(int subtag) {
-        SUBTAG st = subTagHash.get((byte) subtag);
+        SUBTAG st = subTagTable[subtag & 0xFF];
         if (st == null) {
             return "BOGUS_SUBTAG:" + subtag;
         }
@@ -418,10 +578,15 @@ public class ConstantPool extends Indenter {
      * Safely gets the string value of any Constant at any CP index.
      */
     public String StringValue(int cpx) {
+        String value = memoized(Rendering.STRING_VALUE, cpx);
+        return value != null ? value : memoize(Rendering.STRING_VALUE, cpx, renderStringValue(cpx));
+    }
+
+    private String renderStringValue(int cpx) {
         if (!inRange(cpx)) {
             return "<invalid constant pool index: %d>".formatted(cpx);
         }
-        Constant cnst = pool.get(cpx);
+        Constant cnst = get(cpx);
         if (cnst == null) {
             return "<null>";
         }
@@ -434,10 +599,15 @@ public class ConstantPool extends Indenter {
      * a tag descriptor in the beginning.
      */
     public String ConstantStrValue(int cpx) {
+        String value = memoized(Rendering.CONSTANT_STR_VALUE, cpx);
+        return value != null ? value : memoize(Rendering.CONSTANT_STR_VALUE, cpx, renderConstantStrValue(cpx));
+    }
+
+    private String renderConstantStrValue(int cpx) {
         if (cpx == 0 || !inRange(cpx)) {
             return "#" + cpx;
         }
-        Constant cns = pool.get(cpx);
+        Constant cns = get(cpx);
         if (cns == null) {
             return "#" + cpx;
         }
@@ -460,8 +630,8 @@ public class ConstantPool extends Indenter {
         if (extraDetailedOutput && !skipComments) {
             printIndentLn("// %s:".formatted(tableToken.printKey()));
         }
-        for (int idx = 1; idx < pool.size(); idx += size) {
-            Constant cns = pool.get(idx);
+        for (int idx = 1; idx < this.size; idx += size) {
+            Constant cns = get(idx);
             printIndent(this.CPXPlaceHolder, idx);
             if (cns == null) {
                 size = 0;
@@ -483,8 +653,8 @@ public class ConstantPool extends Indenter {
         if (extraDetailedOutput && !skipComments) {
             printIndentLn("// %s:".formatted(tableToken.printKey()));
         }
-        for (int idx = 1; idx < pool.size(); idx += size) {
-            Constant cns = pool.get(idx);
+        for (int idx = 1; idx < this.size; idx += size) {
+            Constant cns = get(idx);
             printIndent(this.CPXPlaceHolder, idx);
             if (cns == null) {
                 size = 0;
@@ -509,9 +679,9 @@ public class ConstantPool extends Indenter {
      * Prepare offsets, paddings, etc. needed for printing
      */
     protected ConstantPool InitializePrintData() {
-        int maxTagNameLength = pool.stream().mapToInt(elem -> (elem == null) ? 4 :
-                elem.tag.getPrintWidth(tableFormat)).max().orElse(10);
-        this.CPXLength = pool.size() > 100 ? 4 : 3;
+        int maxTagNameLength = Arrays.stream(tags, 0, size).mapToInt(tag -> (tag == null) ? 4 :
+                tag.getPrintWidth(tableFormat)).max().orElse(10);
+        this.CPXLength = size > 100 ? 4 : 3;
         // similar to javap format like this:
         // Constant pool:
         //    #1 = Methodref          #2.#3         // java/lang/Object."<init>":()V
@@ -523,7 +693,7 @@ public class ConstantPool extends Indenter {
         //      this.CPXPlaceHolder = "%" + CPXLength + "s = ".formatted("#%d");
         this.tagPadding = maxTagNameLength + 1;
         this.CPXPlaceHolder = "const #%-" + CPXLength + "d = ";
-        this.CPXPlaceHolderLength = this.CPXPlaceHolder.formatted(pool.size()).length();
+        this.CPXPlaceHolderLength = this.CPXPlaceHolder.formatted(size).length();
         // --const #XX = --TagPadding-|--commentPadding---//
         // --const #25 = class--------|#34;---------------// TesterInfo$Priority
         // --#XX       =
@@ -535,11 +705,11 @@ public class ConstantPool extends Indenter {
     }
 
     public int getCommentPadding() {
-        return max(COMMENT_PADDING, tagPadding);
+        return max(defaultCommentPadding, tagPadding);
     }
 
     public List<IOException> getIssues() {
-        return this.pool.stream().filter(Objects::nonNull).
+        return Arrays.stream(this.pool, 0, size).filter(Objects::nonNull).
                 flatMap(constant -> constant.getIssues().stream().filter(Objects::nonNull)).
                 toList();
     }
@@ -557,11 +727,7 @@ public class ConstantPool extends Indenter {
     }
 
     public TAG getTag(int cpIndex) {
-        Constant cell = getConst(cpIndex);
-        if (cell != null) {
-            return cell.tag;
-        }
-        return null;
+        return inRange(cpIndex) ? tags[cpIndex] : null;
     }
 
 
@@ -701,7 +867,7 @@ public class ConstantPool extends Indenter {
         protected final T value;
         private final List<IOException> issues = new ArrayList<>();
         // comment shift is used by the print method
-        protected int commentPadding = Indenter.COMMENT_PADDING;
+        protected int commentPadding = defaultCommentPadding;
 
         public Constant(TAG tag, T value) {
             this.tag = tag;
@@ -720,11 +886,12 @@ public class ConstantPool extends Indenter {
             return 1;
         }
 
-        public List<IOException> getIssues() {
+        public synchronized List<IOException> getIssues() {
             return issues;
         }
 
-        public void setIssue(IOException value) {
+        // the issues are found while the members of the class are printed, possibly in parallel
+        public synchronized void setIssue(IOException value) {
             issues.add(value);
         }
 
@@ -988,9 +1155,6 @@ public class ConstantPool extends Indenter {
 
         protected final int value2;
 
-        // stack to control circular references in bsm arguments.
-        final Stack<Constant> stack = new Stack<>();
-
         CPX2(TAG tag, int cpx1, int cpx2) {
             super(tag, cpx1);
             this.value2 = cpx2;
@@ -1093,11 +1257,14 @@ public class ConstantPool extends Indenter {
         public String bsmArgAsString(int bsmArgIdx, String argDelimiter, String lineSplitter) {
             String str = "";
             if (inRange(bsmArgIdx)) {
-                Constant cnt = pool.get(bsmArgIdx);
-                if (stack.search(this) == -1) {
-                    stack.push(this);
-                    str = str.concat(ConstantStrValue(bsmArgIdx)).concat(argDelimiter);
-                    stack.pop();
+                Constant cnt = get(bsmArgIdx);
+                Set<Constant<?>> rendered = renderedBsmArguments.get();
+                if (rendered.add(this)) {
+                    try {
+                        str = str.concat(ConstantStrValue(bsmArgIdx)).concat(argDelimiter);
+                    } finally {
+                        rendered.remove(this);
+                    }
                 } else {
                     String ref;
                     if (cnt instanceof CPX2) {
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 public class Container<T extends Indenter, M extends MemberData<?>> extends Indenter implements Iterable<T>, Measurable {
@@ -49,22 +50,38 @@ public class Container<T extends Indenter, M extends MemberData<?>> extends Inde
     public void print() throws IOException {
         int size = this.size();
         if (size > 0) {
-            boolean isExtendedPrintingSupported = tableToken.isExtendedPrintingSupported();
             setMaxPrintSize(getPrintSize());
             for (int i = 0; i < size; i++) {
-                T element = elements.get(i);
-                if (element instanceof Measurable measurable) {
-                    measurable.setMaxPrintSize(this.getMaxPrintSize());
-                }
-                element.setCommentOffset(this.getCommentOffset());
-                if (isExtendedPrintingSupported && isTableOutput())
-                    element.tablePrint(i, size);
-                else
-                    element.jasmPrint(i, size);
+                printElement(i);
             }
         }
     }
 
+    /**
+     * Prints the elements on worker threads, see {@link MemberOutput#print(Container, ExecutorService, int)}
+     */
+    void print(MemberOutput output, ExecutorService workers, int threads) throws IOException {
+        if (this.size() > 0) {
+            setMaxPrintSize(getPrintSize());
+            output.print(this, workers, threads);
+        }
+    }
+
+    /**
+     * Prints the element at the index, the print size of the collection is calculated already
+     */
+    void printElement(int index) throws IOException {
+        T element = elements.get(index);
+        if (element instanceof Measurable measurable) {
+            measurable.setMaxPrintSize(this.getMaxPrintSize());
+        }
+        element.setCommentOffset(this.getCommentOffset());
+        if (tableToken.isExtendedPrintingSupported() && isTableOutput())
+            element.tablePrint(index, size());
+        else
+            element.jasmPrint(index, size());
+    }
+
     public void add(T element) throws IOException {
         if (element instanceof MemberData<?> md) {
             ((MemberData) md).setOwner(this.owner);
@@ -1,6 +1,7 @@
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 
 import static org.openjdk.asmtools.jasm.JasmTokens.Token.THROWS;
@@ -22,7 +23,7 @@ public class ExceptionData extends ClassArrayData {
         tableToken = EXCEPTIONS;
     }
 
-    public ExceptionData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public ExceptionData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         return (ExceptionData) super.read(in, attribute_length);
     }
 
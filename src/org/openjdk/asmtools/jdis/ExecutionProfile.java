@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The execution profile read from a JFR recording: the {@code jdk.ExecutionSample} events aggregated by method and
+ * bytecode index of the top frame. A sample is counted for the instruction being executed when the thread was
+ * sampled, hence the samples of a method don't include the samples of the methods it calls.
+ * <p>
+ * The profile isn't changed after it is read, so it may be shared among the threads disassembling classes.
+ */
+public class ExecutionProfile {
+
+    public static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+
+    // the profiles of methods by keys: class_name.method_name:descriptor
+    private final Map<String, MethodProfile> methods = new HashMap<>();
+    // the profiles of methods by class names
+    private final Map<String, List<MethodProfile>> classes = new HashMap<>();
+    private long totalSamples;
+
+    /**
+     * Reads the execution samples of the recording
+     *
+     * @param recording the .jfr file
+     * @return the profile
+     * @throws IOException if the file can't be read or isn't a JFR recording
+     */
+    public static ExecutionProfile read(Path recording) throws IOException {
+        ExecutionProfile profile = new ExecutionProfile();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().equals(EXECUTION_SAMPLE)) {
+                    RecordedStackTrace stackTrace = event.getStackTrace();
+                    if (stackTrace != null && !stackTrace.getFrames().isEmpty()) {
+                        RecordedFrame frame = stackTrace.getFrames().get(0);
+                        RecordedMethod method = frame.getMethod();
+                        if (frame.isJavaFrame() && method != null && method.getType() != null) {
+                            profile.add(method.getType().getName().replace('.', '/'), method.getName(),
+                                    method.getDescriptor(), frame.getBytecodeIndex());
+                        }
+                    }
+                }
+            }
+        }
+        return profile.rank();
+    }
+
+    /**
+     * Adds a sample of the instruction
+     *
+     * @param className  the class name in the internal form: java/lang/String
+     * @param bci        the bytecode index of the instruction, negative if unknown
+     */
+    ExecutionProfile add(String className, String name, String descriptor, int bci) {
+        methods.computeIfAbsent(key(className, name, descriptor), key -> {
+            MethodProfile profile = new MethodProfile(className, name, descriptor);
+            classes.computeIfAbsent(className, c -> new ArrayList<>()).add(profile);
+            return profile;
+        }).add(bci);
+        totalSamples++;
+        return this;
+    }
+
+    /**
+     * Ranks the methods by their samples: the method having most samples is the 1st.
+     */
+    ExecutionProfile rank() {
+        List<MethodProfile> ranked = new ArrayList<>(methods.values());
+        ranked.sort(MethodProfile.BY_SAMPLES);
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).rank = i + 1;
+        }
+        classes.values().forEach(list -> list.sort(MethodProfile.BY_SAMPLES));
+        return this;
+    }
+
+    public long getTotalSamples() {
+        return totalSamples;
+    }
+
+    /**
+     * @return the profile of the method, or null if the method has no samples
+     */
+    public MethodProfile getMethod(String className, String name, String descriptor) {
+        return methods.get(key(className, name, descriptor));
+    }
+
+    /**
+     * @return the profiles of the methods of the class ranked by their samples
+     */
+    public List<MethodProfile> getMethods(String className) {
+        return classes.getOrDefault(className, List.of());
+    }
+
+    /**
+     * @return the percentage of the part in the total, 0 if the total is 0
+     */
+    public static double percentage(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+
+    private static String key(String className, String name, String descriptor) {
+        return className + '.' + name + ':' + descriptor;
+    }
+
+    public static class MethodProfile {
+
+        static final Comparator<MethodProfile> BY_SAMPLES =
+                Comparator.comparingLong((MethodProfile profile) -> profile.samples).reversed().
+                        thenComparing(profile -> key(profile.className, profile.name, profile.descriptor));
+
+        private final String className;
+        private final String name;
+        private final String descriptor;
+        // the samples by bytecode indexes
+        private final Map<Integer, Long> instructions = new HashMap<>();
+        private long samples;
+        private int rank;
+
+        MethodProfile(String className, String name, String descriptor) {
+            this.className = className;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        private void add(int bci) {
+            samples++;
+            if (bci >= 0) {
+                instructions.merge(bci, 1L, Long::sum);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * @return the samples of the method
+         */
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return the samples of the instruction at the bytecode index
+         */
+        public long getSamples(int bci) {
+            return instructions.getOrDefault(bci, 0L);
+        }
+
+        /**
+         * @return the position of the method in the profile ranked by the samples, starting from 1
+         */
+        public int getRank() {
+            return rank;
+        }
+    }
+}
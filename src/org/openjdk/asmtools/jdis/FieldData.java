@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,13 +23,13 @@
 package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.ClassFileContext;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.common.structure.ELocation;
 import org.openjdk.asmtools.common.structure.EModifier;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.List;
 
@@ -55,7 +55,7 @@ public class FieldData extends MemberData<ClassData> implements Measurable {
     }
 
     @Override
-    protected boolean handleAttributes(DataInputStream in, EAttribute attributeTag, int attributeLength) throws IOException {
+    protected boolean handleAttributes(ClassFileReader in, EAttribute attributeTag, int attributeLength) throws IOException {
         // Read the Attributes
         boolean handled = true;
         switch (attributeTag) {
@@ -96,7 +96,7 @@ public class FieldData extends MemberData<ClassData> implements Measurable {
     }
 
     @Override
-    protected boolean handleUnrecognizedAttributes(DataInputStream in, int attributeNameCpx, int attributeLength) throws IOException {
+    protected boolean handleUnrecognizedAttributes(ClassFileReader in, int attributeNameCpx, int attributeLength) throws IOException {
         if (!data.pool.inRange(attributeNameCpx)) {
             environment.warning("warn.attribute.name.corrupted", attributeNameCpx);
         } else {
@@ -109,13 +109,17 @@ public class FieldData extends MemberData<ClassData> implements Measurable {
      * Read and resolve the field data called from ClassData.
      * Precondition: NumFields has already been read from the stream.
      */
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
         // read the Fields CP indexes
         access = in.readUnsignedShort();
         name_cpx = in.readUnsignedShort();
         type_cpx = in.readUnsignedShort();
-        // Read the attributes
-        readAttributes(in);
+        // Read the attributes, the attributes of the fields that aren't printed are skipped
+        if (isSelected()) {
+            readAttributes(in);
+        } else {
+            skipAttributes(in);
+        }
         //
         environment.traceln(() ->
                 "FieldData: name[%d]=%s type[%d]=%s%s".formatted(
@@ -124,6 +128,15 @@ public class FieldData extends MemberData<ClassData> implements Measurable {
                         signature != null ? signature : ""));
     }
 
+    /**
+     * @return true if the field is selected by the member filter of the class
+     */
+    public boolean isSelected() {
+        return !data.memberFilter.filtersMembers() ||
+                data.memberFilter.selectsField(data.pool.getString(name_cpx, index -> "#" + index),
+                        data.pool.getString(type_cpx, index -> "#" + index));
+    }
+
     /**
      * Prints the field data to the current output stream called from ClassData.
      */
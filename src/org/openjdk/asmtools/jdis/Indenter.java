@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,8 +51,6 @@ public abstract class Indenter implements Printable {
     public static final int INSTR_PREFIX_LENGTH = 7;
     public static final int STACKMAP_TYPE_PLACEHOLDER_LENGTH = 18;
     public static final int OPERAND_PLACEHOLDER_LENGTH = 17;
-    public static int TABLE_PADDING = OPERAND_PLACEHOLDER_LENGTH + INSTR_PREFIX_LENGTH + 1;
-    public static final int COMMENT_PADDING = (Options.contains(TABLE)) ? 16 : 20;
     public static final int INITIAL_COMMENT_OFFSET = 0;     // Initial offset that will be dynamically updated
 
     public static final int CIRCULAR_COMMENT_OFFSET = 25;
@@ -62,6 +60,7 @@ public abstract class Indenter implements Printable {
     protected final boolean detailedOutput = Options.contains(DETAILED_Output);
     protected final boolean extraDetailedOutput = Options.contains(EXTRA_DETAILED_Output);
     protected final boolean bestEffort = Options.contains(BEST_EFFORT);
+    protected final boolean summary = Options.contains(SUMMARY);
 
     // Discard printing attributes
     protected final boolean dropSourceFile = Options.contains(DROP_Source);
@@ -85,6 +84,9 @@ public abstract class Indenter implements Printable {
     protected final boolean printLineTableLines = Options.contains(LINE_NUMBER_TABLE_Lines);
     protected final boolean printLineTableNumbers = Options.contains(LINE_NUMBER_TABLE_Numbers);
     protected final boolean printHEX = Options.contains(HEX);
+    // paddings depending on the options
+    protected final int tablePadding = OPERAND_PLACEHOLDER_LENGTH + INSTR_PREFIX_LENGTH + (printProgramCounter ? 3 : 1);
+    protected final int defaultCommentPadding = tableFormat ? 16 : 20;
     //
     protected boolean printable = true;
     // indicated that an entity has a size in a collection
@@ -450,6 +452,10 @@ public abstract class Indenter implements Printable {
 
     /**
      * Formats invokedynamic/ldc dynamic operand line and Bootstrap arguments
+     * <p>
+     * The line is scanned once: outside quoted strings the characters ':', '{', '}' and the markers
+     * ARGUMENT_DELIMITER, LINE_SPLITTER are replaced with line breaks on the fly, the other characters are copied.
+     * The empty list of arguments {@code {}} is copied as is.
      *
      * @param str            non-formatted operand line
      * @param offset         indent for new lines
@@ -458,81 +464,95 @@ public abstract class Indenter implements Printable {
      * @return formatted operand line
      */
     protected String formatOperandLine(String str, int offset, String prefix, Map<Integer, List<Integer>> breakPositions) {
+        // if the line has no arguments {}, the text <!> is printed as {} too
         boolean noArgs = str.contains(NO_BSM_ARGUMENTS);
-        if (noArgs) {
-            str = str.replaceAll(NO_BSM_ARGUMENTS_REGEX, REPLACEMENT_NO_BSM_ARGUMENTS);
-        }
-        StringTokenizer st = new StringTokenizer(str, ":\"{}\\" + ARGUMENT_DELIMITER + LINE_SPLITTER, true);
-        StringBuilder sb = new StringBuilder(80);
+        StringBuilder sb = new StringBuilder(str.length() + 80);
         boolean processTokens = true;
-        String prevToken = "";
+        char prevChar = 0;
         int nItems = 0, nLevel = 0;
-        while (st.hasMoreTokens()) {
-            String token = st.nextToken();
-            List<Integer> breaks = breakPositions.getOrDefault(nLevel, Collections.emptyList());
-            switch (token) {
-                case ":":
-                    sb.append(token);
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            if (noArgs && str.startsWith(NO_BSM_ARGUMENTS, i)) {
+                sb.append(NO_BSM_ARGUMENTS);
+                prevChar = '}';
+                i += NO_BSM_ARGUMENTS.length() - 1;
+                continue;
+            }
+            if (noArgs && str.startsWith(REPLACEMENT_NO_BSM_ARGUMENTS, i)) {
+                sb.append(NO_BSM_ARGUMENTS);
+                prevChar = '>';
+                i += REPLACEMENT_NO_BSM_ARGUMENTS.length() - 1;
+                continue;
+            }
+            switch (ch) {
+                case ':' -> {
+                    sb.append(ch);
                     if (processTokens) {
                         nItems++;
-                        if (breaks.contains(nItems)) {
-                            sb.append(lineSeparator()).append(nCopies(offset)).append(prefix).
-                                    append(nCopies(getIndentStep() * nLevel));
+                        if (breakPositions.getOrDefault(nLevel, Collections.emptyList()).contains(nItems)) {
+                            appendNewLine(sb, offset, prefix, nLevel);
                         }
                     }
-                    break;
-                case "}":
+                }
+                case '}' -> {
                     if (processTokens) {
                         nLevel = (nLevel == 0) ? nLevel : nLevel - 1;
                         nItems = 0;
-                        sb.append(lineSeparator()).append(nCopies(offset)).
-                                append(prefix).append(nCopies(getIndentStep() * nLevel)).append(token);
-                    } else
-                        sb.append(token);
-                    break;
-                case "{":
+                        appendNewLine(sb, offset, prefix, nLevel).append(ch);
+                    } else {
+                        sb.append(ch);
+                    }
+                }
+                case '{' -> {
                     if (processTokens) {
                         nLevel++;
                         nItems = 0;
-                        sb.append(" {").append(lineSeparator()).append(nCopies(offset)).
-                                append(prefix).append(nCopies(getIndentStep() * nLevel));
+                        appendNewLine(sb.append(" {"), offset, prefix, nLevel);
                     } else {
-                        sb.append(token);
+                        sb.append(ch);
                     }
-                    break;
-                case "\"":
-                    if (!prevToken.equals("\\"))
+                }
+                case '"' -> {
+                    if (prevChar != '\\') {
                         processTokens = !processTokens;
-                    sb.append(token);
-                    break;
-                case ARGUMENT_DELIMITER:
-                    if (processTokens) {
-                        sb.append(',').append(lineSeparator()).append(nCopies(offset)).
-                                append(prefix).append(nCopies(getIndentStep() * nLevel));
-                        nItems = 0;
-                    } else {
-                        sb.append(ARGUMENT_DELIMITER);
                     }
-                    break;
-                case LINE_SPLITTER:
-                    if (processTokens) {
-                        sb.append(lineSeparator()).append(nCopies(offset)).
-                                append(prefix).append(nCopies(getIndentStep() * nLevel));
+                    sb.append(ch);
+                }
+                default -> {
+                    if (ch == ARGUMENT_DELIMITER.charAt(0)) {
+                        if (processTokens) {
+                            appendNewLine(sb.append(','), offset, prefix, nLevel);
+                            nItems = 0;
+                        } else {
+                            sb.append(ch);
+                        }
+                    } else if (ch == LINE_SPLITTER.charAt(0)) {
+                        if (processTokens) {
+                            appendNewLine(sb, offset, prefix, nLevel);
+                        } else {
+                            sb.append(ARGUMENT_DELIMITER);
+                        }
                     } else {
-                        sb.append(ARGUMENT_DELIMITER);
+                        sb.append(ch);
                     }
-                    break;
-                default:
-                    sb.append(token);
-                    break;
+                }
             }
-            prevToken = token;
+            prevChar = ch;
         }
-        str = sb.toString();
-        if (noArgs) {
-            str = str.replaceAll(REPLACEMENT_NO_BSM_ARGUMENTS, NO_BSM_ARGUMENTS);
+        return sb.toString();
+    }
+
+    // appends the line separator and the indent of the operand line: offset, prefix, and the indent of the level
+    private StringBuilder appendNewLine(StringBuilder sb, int offset, String prefix, int nLevel) {
+        sb.append(lineSeparator());
+        for (int i = 0; i < offset; i++) {
+            sb.append(fillString);
         }
-        return str;
+        sb.append(prefix);
+        for (int i = getIndentStep() * nLevel; i > 0; i--) {
+            sb.append(fillString);
+        }
+        return sb;
     }
 
     public static class NotImplementedException extends RuntimeException {
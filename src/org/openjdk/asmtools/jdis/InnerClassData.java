@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,10 +22,10 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.ClassFileContext;
 import org.openjdk.asmtools.common.structure.EModifier;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import static java.lang.Math.max;
@@ -43,7 +43,7 @@ public class InnerClassData extends Element<ClassData> implements Measurable {
     int access;
 
     private int calculatedCommentOffset = 0;
-    private String jasmPrefix = Indent(PadRight(INNERCLASS.parseKey(), TABLE_PADDING));
+    private String jasmPrefix = Indent(PadRight(INNERCLASS.parseKey(), tablePadding));
 
     public InnerClassData(ClassData classData, Container<InnerClassData, ClassData> container) {
         super(classData, container);
@@ -64,7 +64,7 @@ public class InnerClassData extends Element<ClassData> implements Measurable {
         return calculatedCommentOffset;
     }
 
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
         inner_class_info_index = in.readUnsignedShort();
         outer_class_info_index = in.readUnsignedShort();
         inner_name_index = in.readUnsignedShort();
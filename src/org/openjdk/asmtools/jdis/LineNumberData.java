@@ -1,6 +1,7 @@
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 
 import static org.openjdk.asmtools.jasm.JasmTokens.Token.LINETABLE_HEADER;
@@ -71,13 +72,13 @@ public class LineNumberData extends Indenter {
     }
 
     /**
-     * Constructs a new LineNumberData instance from the given DataInputStream and MethodData.
+     * Constructs a new LineNumberData instance from the given ClassFileReader and MethodData.
      *
-     * @param in the DataInputStream containing the line number data
+     * @param in the ClassFileReader containing the line number data
      * @param methodData the MethodData instance associated with this LineNumberData
      * @throws IOException if an I/O error occurs during construction
      */
-    public LineNumberData(DataInputStream in, MethodData methodData) throws IOException {
+    public LineNumberData(ClassFileReader in, MethodData methodData) throws IOException {
         start_pc = in.readShort();
         line_number = in.readShort();
         super.toolOutput = methodData.toolOutput;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,9 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 /**
@@ -42,7 +42,7 @@ public class LoadableDescriptorsData extends Utf8ArrayData {
         super(cls, JasmTokens.Token.LOADABLEDESCRIPTORS);
     }
 
-    public LoadableDescriptorsData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public LoadableDescriptorsData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         return (LoadableDescriptorsData) super.read(in, attribute_length);
     }
 }
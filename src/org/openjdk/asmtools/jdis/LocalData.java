@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 import java.text.MessageFormat;
 
@@ -45,7 +46,7 @@ public abstract class LocalData<M extends MemberData<?>> extends Indenter {
     protected String header;
     protected String format;
 
-    public LocalData(MemberData<M> owner, DataInputStream in, MethodData methodData, String fieldFacet) throws IOException {
+    public LocalData(MemberData<M> owner, ClassFileReader in, MethodData methodData, String fieldFacet) throws IOException {
         start_pc = in.readShort();
         length = in.readShort();
         name_cpx = in.readShort();
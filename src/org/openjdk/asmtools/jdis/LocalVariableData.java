@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,9 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.TableFormatModel;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import static org.openjdk.asmtools.jasm.JasmTokens.Token.*;
@@ -49,7 +49,7 @@ public class LocalVariableData<M extends MemberData<?>> extends LocalData {
         return printLocalVariables && tableFormat;
     }
 
-    public LocalVariableData(M owner, DataInputStream in, MethodData methodData) throws IOException {
+    public LocalVariableData(M owner, ClassFileReader in, MethodData methodData) throws IOException {
         super(owner, in, methodData, DESCRIPTOR.parseKey());
     }
 
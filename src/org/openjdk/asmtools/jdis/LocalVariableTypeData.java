@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 
 import static org.openjdk.asmtools.jasm.JasmTokens.Token.LOCALVARIABLETYPES_HEADER;
@@ -47,7 +48,7 @@ public class LocalVariableTypeData<M extends MemberData<?>> extends LocalData {
         return printLocalVariableTypes && tableFormat;
     }
 
-    public LocalVariableTypeData(M owner, DataInputStream in, MethodData methodData) throws IOException {
+    public LocalVariableTypeData(M owner, ClassFileReader in, MethodData methodData) throws IOException {
         super(owner, in, methodData, SIGNATURE.parseKey());
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,20 +22,30 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.ParallelTasks;
+import org.openjdk.asmtools.common.Tool;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.inputs.FileInput;
 import org.openjdk.asmtools.common.inputs.ToolInput;
+import org.openjdk.asmtools.common.outputs.BufferedToolOutput;
 import org.openjdk.asmtools.common.outputs.StdoutOutput;
 import org.openjdk.asmtools.common.outputs.ToolOutput;
-import org.openjdk.asmtools.common.outputs.log.DualOutputStreamOutput;
+import org.openjdk.asmtools.common.outputs.log.BufferedLog;
 import org.openjdk.asmtools.common.outputs.log.DualStreamToolOutput;
 
-import java.io.DataInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.PatternSyntaxException;
 
 import static org.openjdk.asmtools.Main.WRITE_SWITCH;
 import static org.openjdk.asmtools.common.Environment.FAILED;
@@ -54,6 +64,17 @@ import static org.openjdk.asmtools.util.ProductInfo.FULL_VERSION;
  */
 public class Main extends JdisTool {
 
+    // the print options parsed by this tool, if null the options set in the calling thread are used
+    private Set<PrintOption> printOptions = null;
+    // selects the classes, fields and methods to print
+    private final MemberFilter memberFilter = new MemberFilter();
+    // the execution profile the instructions are annotated with
+    private ExecutionProfile profile = null;
+    // the execution profile read by the tool that parsed the same arguments, see reuseParsing(Tool)
+    private ExecutionProfile parsedProfile = null;
+    // the hits and misses of the constant pool renderings of the printed classes, summed up by the worker threads
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
     public Main(ToolOutput toolOutput, DualStreamToolOutput log, ToolInput... toolInputs) {
         super(toolOutput, log);
         Collections.addAll(fileList, toolInputs);
@@ -105,50 +126,152 @@ public class Main extends JdisTool {
 
     // Runs disassembler when args already parsed
     public synchronized int disasm() {
-        int rc = OK;
-        for (ToolInput toolInput : fileList) {
-            ClassData classData = null;
+        final Set<PrintOption> callerOptions = Options.snapshot();
+        if (printOptions != null) {
+            Options.apply(printOptions);
+        }
+        try {
+            if (threads > 1 && fileList.size() > 1) {
+                return disasmInParallel();
+            }
+            // the members of a large class are printed in parallel only if the files aren't, so the threads aren't
+            // multiplied, and the classes share one pool of workers
+            ExecutorService memberWorkers = threads > 1 ? ParallelTasks.newWorkers(threads) : null;
             try {
-                environment.setToolInput(toolInput);
-                classData = new ClassData(environment);
-                toolInput.setDetailedInput(classData.isDetailedOutput());
-                try (DataInputStream dis = toolInput.getDataInputStream(Optional.of(environment))) {
-                    classData.read(dis, Paths.get(toolInput.getName()));
+                int rc = OK;
+                for (ToolInput toolInput : fileList) {
+                    Status status = disasm(environment, toolInput, memberWorkers);
+                    rc = complete(environment, toolInput, status, rc);
+                    if (status != Status.DONE) {
+                        break;
+                    }
+                }
+                return rc;
+            } finally {
+                if (memberWorkers != null) {
+                    memberWorkers.shutdownNow();
+                }
+            }
+        } finally {
+            closeArchives();
+            Options.apply(callerOptions);
+        }
+    }
+
+    /**
+     * Disassembles the input files on worker threads. Every worker gets the snapshot of the print options,
+     * its own environment and buffers. The results are written in the order of the input files,
+     * hence the output is the same as the output of the sequential run.
+     */
+    private int disasmInParallel() {
+        final Set<PrintOption> printOptions = Options.snapshot();
+        int rc = OK;
+        try (ParallelTasks<ToolInput, Disassembly> tasks = new ParallelTasks<>(threads, fileList,
+                toolInput -> disasm(toolInput, printOptions))) {
+            for (Disassembly disassembly : tasks) {
+                try {
+                    disassembly.output().replay(environment.getToolOutput(), environment);
+                } catch (IOException ioe) {
+                    environment.error(ioe);
+                    environment.printException(ioe);
+                    environment.getLogger().flush();
+                    return FAILED;
+                }
+                rc = complete(disassembly.environment(), disassembly.toolInput(), disassembly.status(), rc);
+                disassembly.log().replay(environment.getOutputs());
+                if (disassembly.status() != Status.DONE) {
+                    break;
                 }
-                environment.traceln(() -> "Options:\n%s\n".formatted(Options.getPrintOptions()));
-                environment.getToolOutput().startClass(classData.className, Optional.of(".jasm"), environment);
-                classData.print();
-                environment.getToolOutput().finishClass(classData.className);
-                environment.getOutputs().flush();
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
-                environment.getLogger().flush();
-                continue;
-            } catch (FileNotFoundException fnf) {
-                environment.printException(fnf);
-                environment.error("err.not_found", toolInput);
-                rc = FAILED;
-            } catch (IOException | ClassFormatError ioe) {
-                classData.postPrint();
-                environment.error(ioe);
-                environment.printException(ioe);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
-            } catch (Error error) {
-                classData.postPrint();
-                environment.error(error);
-                environment.printException(error);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
-            } catch (Exception ex) {
-                classData.postPrint();
-                environment.error(ex);
-                environment.printException(ex);
-                rc += environment.getLogger().registerTotalIssues(rc, toolInput);
             }
-            environment.getLogger().flush();
-            break;
         }
         return rc;
     }
 
+    // Disassembles the input on a worker thread
+    private Disassembly disasm(ToolInput toolInput, Set<PrintOption> printOptions) {
+        Options.apply(printOptions);
+        BufferedToolOutput output = new BufferedToolOutput();
+        BufferedLog log = new BufferedLog();
+        JdisEnvironment workerEnvironment = new JdisEnvironment.JdisBuilder(output, log).build();
+        workerEnvironment.setVerboseFlag(environment.getVerboseFlag());
+        workerEnvironment.setTraceFlag(environment.isTraceFlag());
+        workerEnvironment.setIgnorePackage(environment.isIgnorePackage());
+        Status status = disasm(workerEnvironment, toolInput, null);
+        return new Disassembly(toolInput, workerEnvironment, output, log, status);
+    }
+
+    /**
+     * Disassembles the input into the tool output of the environment
+     *
+     * @param memberWorkers the workers printing the members of a large class, null if the members are printed
+     *                      by the calling thread
+     * @return the status of the disassembly
+     */
+    private Status disasm(JdisEnvironment environment, ToolInput toolInput, ExecutorService memberWorkers) {
+        ClassData classData = null;
+        try {
+            environment.setToolInput(toolInput);
+            classData = new ClassData(environment);
+            classData.setMemberFilter(memberFilter);
+            classData.setProfile(profile);
+            if (memberWorkers != null) {
+                classData.setMemberWorkers(memberWorkers, threads);
+            }
+            toolInput.setDetailedInput(classData.isDetailedOutput());
+            classData.read(ClassFileReader.of(toolInput, Optional.of(environment)), Paths.get(toolInput.getName()));
+            if (!classData.isSelected()) {
+                return Status.DONE;
+            }
+            environment.traceln(() -> "Options:\n%s\n".formatted(Options.getPrintOptions()));
+            environment.getToolOutput().startClass(classData.className, Optional.of(".jasm"), environment);
+            classData.print();
+            environment.getToolOutput().finishClass(classData.className);
+            count(classData.getConstantPool());
+            environment.getOutputs().flush();
+            return Status.DONE;
+        } catch (FileNotFoundException fnf) {
+            environment.printException(fnf);
+            environment.error("err.not_found", toolInput);
+            return Status.NOT_FOUND;
+        } catch (IOException | ClassFormatError ioe) {
+            classData.postPrint();
+            environment.error(ioe);
+            environment.printException(ioe);
+        } catch (Error error) {
+            classData.postPrint();
+            environment.error(error);
+            environment.printException(error);
+        } catch (Exception ex) {
+            classData.postPrint();
+            environment.error(ex);
+            environment.printException(ex);
+        }
+        return Status.FAILED;
+    }
+
+    /**
+     * Registers issues found while disassembling the input and flushes the log of the environment
+     *
+     * @return the updated result code
+     */
+    private int complete(JdisEnvironment environment, ToolInput toolInput, Status status, int rc) {
+        if (status == Status.NOT_FOUND) {
+            rc = FAILED;
+        } else {
+            rc += environment.getLogger().registerTotalIssues(rc, toolInput);
+        }
+        environment.getLogger().flush();
+        return rc;
+    }
+
+    private enum Status {
+        DONE, NOT_FOUND, FAILED
+    }
+
+    private record Disassembly(ToolInput toolInput, JdisEnvironment environment, BufferedToolOutput output,
+                               BufferedLog log, Status status) {
+    }
+
     @Override
     public void usage() {
         environment.usage(List.of(
@@ -166,14 +289,36 @@ public class Main extends JdisTool {
                 "info.opt.lvt",
                 "info.opt.drop",
                 "info.opt.b",
+                "info.opt.summary",
+                "info.opt.include",
+                "info.opt.exclude",
+                "info.opt.class",
+                "info.opt.field",
+                "info.opt.method",
+                "info.opt.profile",
+                "info.opt.j",
                 "info.opt.version",
                 "info.opt.t",
                 "info.opt.v"
         ));
     }
 
+    /**
+     * Parses the arguments into the print options of this tool. The options set in the calling thread
+     * are kept intact, so the tool may be configured in one thread and run in another one.
+     */
     @Override
     protected void parseArgs(String... argv) {
+        final Set<PrintOption> callerOptions = Options.snapshot();
+        try {
+            parseOptions(argv);
+            printOptions = Options.snapshot();
+        } finally {
+            Options.apply(callerOptions);
+        }
+    }
+
+    private void parseOptions(String... argv) {
         Options.setDefaultOutputOptions();
         // Parse arguments
         for (int i = 0; i < argv.length; i++) {
@@ -214,18 +359,27 @@ public class Main extends JdisTool {
                     environment.setIgnorePackage(true);
                     setFSDestination(DIR, ++i, argv);
                     break;
+                case org.openjdk.asmtools.Main.THREADS_SWITCH:      // -j <threads>
+                    setThreads(++i, argv);
+                    break;
+                case "-include", "-exclude":                        // -include|-exclude <glob>
+                    addEntryGlob(arg.equals("-include"), ++i, argv);
+                    break;
+                case "-class", "-field", "-method":                  // -class|-field|-method <glob>
+                    addMemberGlob(arg, ++i, argv);
+                    break;
                 case org.openjdk.asmtools.Main.DUAL_LOG_SWITCH:     // -dls
-                    this.environment.setOutputs(new DualOutputStreamOutput());
+                    this.environment.setOutputs(getDualStreamLog());
                     break;
                 case org.openjdk.asmtools.Main.VERSION_SWITCH:      // -version
                     environment.println(FULL_VERSION);
-                    System.exit(OK);
+                    exit(OK);
                 case org.openjdk.asmtools.Main.STDIN_SWITCH:        // -
                     addStdIn();
                     break;
                 case "-h", "-help":
                     usage();
-                    System.exit(OK);
+                    exit(OK);
                 case "-best-effort":
                     Options.set(BEST_EFFORT);
                     break;
@@ -236,37 +390,125 @@ public class Main extends JdisTool {
                 case "-table":
                     Options.set(PrintOption.TABLE);
                     break;
+                case "-profile":                                    // -profile <file.jfr>
+                    readProfile(++i, argv);
+                    break;
+                case "-summary":
+                    Options.set(SUMMARY);
+                    break;
                 default:
                     if (arg.startsWith("-")) {
                         if (arg.startsWith("-drop")) {
                             if (!parseParameters("-drop", arg, "DROP", DROP_All)) {
                                 usage();
-                                System.exit(FAILED);
+                                exit(FAILED);
                             }
                         } else if (arg.startsWith("-lnt")) {
                             if (!parseParameters("-lnt", arg, "LINE_NUMBER_TABLE", LINE_NUMBER_TABLE_All)) {
                                 usage();
-                                System.exit(FAILED);
+                                exit(FAILED);
                             }
                         } else if (arg.startsWith("-lvt")) {
                             if (!parseParameters("-lvt", arg, "LOCAL_VARIABLE", LOCAL_VARIABLE_All)) {
                                 usage();
-                                System.exit(FAILED);
+                                exit(FAILED);
                             }
                         } else {
                             environment.error("err.invalid_option", arg);
                             usage();
-                            System.exit(FAILED);
+                            exit(FAILED);
                         }
                     } else {
-                        fileList.add(new FileInput(arg));
+                        fileList.add(new FileInput(resolve(arg)));
                     }
             }
         }
+        if (Options.contains(SUMMARY)) {
+            // the constant pool entries refer to the attributes skipped in the summary mode, e.g. BootstrapMethods
+            Options.unset(CONSTANT_POOL);
+        }
+        if (!openArchives()) {
+            environment.getLogger().flush();
+            exit(FAILED);
+        }
         if (fileList.isEmpty()) {
             usage();
-            System.exit(FAILED);
+            exit(FAILED);
+        }
+    }
+
+    @Override
+    public void reuseParsing(Tool<?> parsed) {
+        if (parsed instanceof Main main) {
+            parsedProfile = main.profile;
+        }
+    }
+
+    /**
+     * @return the hits and misses of the memoized constant pool renderings of the printed classes,
+     * e.g. {@code renderings.CLASS_NAME.hits}
+     */
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    private void count(ConstantPool pool) {
+        for (ConstantPool.Rendering rendering : ConstantPool.Rendering.values()) {
+            counters.computeIfAbsent("renderings." + rendering + ".hits", name -> new LongAdder()).
+                    add(pool.getRenderingHits(rendering));
+            counters.computeIfAbsent("renderings." + rendering + ".misses", name -> new LongAdder()).
+                    add(pool.getRenderingMisses(rendering));
+        }
+    }
+
+    /**
+     * Adds the glob selecting classes, fields or methods to print to the member filter
+     *
+     * @param option one of the options -class, -field or -method
+     */
+    private void addMemberGlob(String option, int index, String... argv) {
+        if (index >= argv.length) {
+            environment.error("err.glob_requires_argument", option);
+            usage();
+            throw new IllegalArgumentException();
+        }
+        try {
+            switch (option) {
+                case "-class" -> memberFilter.addClass(argv[index]);
+                case "-field" -> memberFilter.addField(argv[index]);
+                default -> memberFilter.addMethod(argv[index]);
+            }
+        } catch (PatternSyntaxException pse) {
+            environment.error("err.invalid_glob", argv[index]);
+            usage();
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Reads the execution samples of the JFR recording the instructions are annotated with
+     */
+    private void readProfile(int index, String... argv) {
+        if (index >= argv.length) {
+            environment.error("err.profile_requires_argument");
+            usage();
+            throw new IllegalArgumentException();
+        }
+        String fileName = resolve(argv[index]);
+        if (parsedProfile != null) {
+            profile = parsedProfile;
+            return;
+        }
+        try {
+            profile = ExecutionProfile.read(Paths.get(fileName));
+        } catch (IOException ioe) {
+            environment.error("err.cannot_read_profile", fileName, ioe.getMessage());
+            throw new IllegalArgumentException();
         }
+        environment.traceln(() -> "%d execution samples are read from %s".formatted(profile.getTotalSamples(), fileName));
     }
 
     /**
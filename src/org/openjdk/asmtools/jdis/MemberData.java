@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,12 +25,14 @@ package org.openjdk.asmtools.jdis;
 import org.openjdk.asmtools.asmutils.Pair;
 import org.openjdk.asmtools.common.Environment;
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -43,6 +45,24 @@ public abstract class MemberData<T extends MemberData> extends Indenter {
     // String prefix to print Defaults for Annotation Interface Elements
     protected static final String DEFAULT_VALUE_PREFIX = "default { ";
 
+    // The attributes read in the summary mode (-summary), the others are skipped
+    private static final EnumSet<EAttribute> SUMMARY_ATTRIBUTES = EnumSet.of(
+            EAttribute.ATT_Synthetic,
+            EAttribute.ATT_Deprecated,
+            EAttribute.ATT_Signature,
+            EAttribute.ATT_ConstantValue,
+            EAttribute.ATT_Exceptions,
+            EAttribute.ATT_RuntimeVisibleAnnotations,
+            EAttribute.ATT_RuntimeInvisibleAnnotations,
+            EAttribute.ATT_RuntimeVisibleParameterAnnotations,
+            EAttribute.ATT_RuntimeInvisibleParameterAnnotations,
+            EAttribute.ATT_RuntimeVisibleTypeAnnotations,
+            EAttribute.ATT_RuntimeInvisibleTypeAnnotations,
+            EAttribute.ATT_AnnotationDefault,
+            EAttribute.ATT_Module,
+            EAttribute.ATT_Record,
+            EAttribute.ATT_PermittedSubclasses);
+
     protected T data;
     protected Environment environment;          // Environment of this data
     protected ConstantPool pool;
@@ -126,14 +146,14 @@ public abstract class MemberData<T extends MemberData> extends Indenter {
         return pool;
     }
 
-    protected boolean handleAttributes(DataInputStream in,
+    protected boolean handleAttributes(ClassFileReader in,
                                        EAttribute attributeTag,
                                        int attributeLength) throws IOException {
         // sub-classes override
         return false;
     }
 
-    protected boolean handleUnrecognizedAttributes(DataInputStream in,
+    protected boolean handleUnrecognizedAttributes(ClassFileReader in,
                                        int attributeNameCpx,
                                        int attributeLength) throws IOException {
         // sub-classes override
@@ -240,7 +260,25 @@ public abstract class MemberData<T extends MemberData> extends Indenter {
         println();
     }
 
-    protected void readAttributes(DataInputStream in) throws IOException {
+    /**
+     * Skips the attributes of a member that is not printed without decoding them
+     */
+    protected void skipAttributes(ClassFileReader in) throws IOException {
+        int attributesCount = in.readUnsignedShort();
+        environment.traceln("%s - Attributes[%d] skipped", memberType, attributesCount);
+        for (int k = 0; k < attributesCount; k++) {
+            in.readUnsignedShort();
+            skipAttribute(in, in.readInt());
+        }
+    }
+
+    private static void skipAttribute(ClassFileReader in, int attrLength) throws IOException {
+        if (in.skipBytes(attrLength) != attrLength) {
+            throw new EOFException();
+        }
+    }
+
+    protected void readAttributes(ClassFileReader in) throws IOException {
         // Read the Attributes
         int attributesCount = in.readUnsignedShort();
         attributes = new ArrayList<>(attributesCount);
@@ -252,6 +290,10 @@ public abstract class MemberData<T extends MemberData> extends Indenter {
             environment.traceln(format("Attribute#%d name[%d]=\"%s\"", k, name_cpx, attr_name));
             EAttribute tag = EAttribute.get(attr_name);
             int attrLength = in.readInt();
+            if (summary && !SUMMARY_ATTRIBUTES.contains(tag)) {
+                skipAttribute(in, attrLength);
+                continue;
+            }
             attrData = new AttrData(environment, tag);
             attributes.add(attrData);
             switch (tag) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.openjdk.asmtools.common.Glob;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the classes, fields and methods jdis prints by {@link Glob}s, the globs of {@code -include} and
+ * {@code -exclude}: {@code *} doesn't match '/' while {@code **} does. A class glob matches the class name written
+ * with either '/' or '.': {@code java.util.*Map}, {@code java.**}. A member glob matches the name of a member or,
+ * if the glob contains ':', the name and the descriptor: {@code {get,set}*}, {@code run:(I)V}, {@code *:(**)V}.
+ * <p>
+ * Without globs everything is selected. Once a field or a method glob is given, only the matching members
+ * are printed: the members of the other kind are printed only if they have globs too.
+ * The filter is set up while the arguments are parsed and is only read afterwards.
+ */
+public class MemberFilter {
+
+    private final List<Pattern> classes = new ArrayList<>();
+    private final List<Pattern> fields = new ArrayList<>();
+    private final List<Pattern> methods = new ArrayList<>();
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+     */
+    public MemberFilter addClass(String glob) {
+        classes.add(Glob.toPattern(glob.replace('.', '/')));
+        return this;
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+     */
+    public MemberFilter addField(String glob) {
+        fields.add(Glob.toPattern(glob));
+        return this;
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if the glob is invalid
+     */
+    public MemberFilter addMethod(String glob) {
+        methods.add(Glob.toPattern(glob));
+        return this;
+    }
+
+    /**
+     * @return true if some fields or methods are filtered out
+     */
+    public boolean filtersMembers() {
+        return !fields.isEmpty() || !methods.isEmpty();
+    }
+
+    public boolean selectsClass(String className) {
+        return classes.isEmpty() || classes.stream().anyMatch(pattern -> pattern.matcher(className).matches());
+    }
+
+    public boolean selectsField(String name, String descriptor) {
+        return !filtersMembers() || selects(fields, name, descriptor);
+    }
+
+    public boolean selectsMethod(String name, String descriptor) {
+        return !filtersMembers() || selects(methods, name, descriptor);
+    }
+
+    private static boolean selects(List<Pattern> patterns, String name, String descriptor) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(pattern.pattern().contains(":") ? name + ':' + descriptor : name).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
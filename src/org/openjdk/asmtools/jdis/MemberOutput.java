@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.openjdk.asmtools.common.Environment;
+import org.openjdk.asmtools.common.ParallelTasks;
+import org.openjdk.asmtools.common.outputs.BufferedToolOutput;
+import org.openjdk.asmtools.common.outputs.ToolOutput;
+import org.openjdk.asmtools.common.structure.ClassFileContext;
+import org.openjdk.asmtools.common.structure.EModifier;
+
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+import static org.openjdk.asmtools.jdis.Options.PrintOption;
+
+/**
+ * The output of a class whose members are printed on worker threads. Every member is printed into a buffer of its
+ * own, the buffers are written into the output of the class in the order of the members, hence the output is the
+ * same as the output of printing the members one after another.
+ * <p>
+ * The members hold the output of the class they are read with, so the output routes the text printed by a worker
+ * into the buffer of the member the worker prints. Any other thread prints into the output of the class.
+ */
+class MemberOutput implements ToolOutput {
+
+    private final ToolOutput output;
+    private final Environment<?> environment;
+    // the buffer of the member printed by the worker thread
+    private final ThreadLocal<BufferedToolOutput> buffer = new ThreadLocal<>();
+
+    MemberOutput(ToolOutput output, Environment<?> environment) {
+        this.output = output;
+        this.environment = environment;
+    }
+
+    /**
+     * Prints the elements of the container on the worker threads and writes them into the output
+     *
+     * @param container the container of members, its print size is calculated already
+     * @param workers   the pool of worker threads shared by the classes
+     * @param threads   the number of worker threads
+     * @throws IOException if a member can't be printed or written
+     */
+    void print(Container<?, ?> container, ExecutorService workers, int threads) throws IOException {
+        // the worker threads print with the options and the context of the thread printing the class
+        final Set<PrintOption> printOptions = Options.snapshot();
+        final ClassFileContext context = EModifier.GlobalContext();
+        List<Integer> indexes = IntStream.range(0, container.size()).boxed().toList();
+        try (ParallelTasks<Integer, PrintedMember> tasks = new ParallelTasks<>(workers, threads, indexes, index -> {
+            Options.apply(printOptions);
+            EModifier.setGlobalContext(context);
+            BufferedToolOutput memberBuffer = new BufferedToolOutput();
+            buffer.set(memberBuffer);
+            try {
+                container.printElement(index);
+                return new PrintedMember(memberBuffer, null);
+            } catch (IOException | RuntimeException | Error failure) {
+                return new PrintedMember(memberBuffer, failure);
+            } finally {
+                buffer.remove();
+            }
+        })) {
+            for (PrintedMember member : tasks) {
+                // the text printed before a failure is written as it is in the sequential printing
+                member.output().replay(output, environment);
+                if (member.failure() instanceof IOException ioe) {
+                    throw ioe;
+                } else if (member.failure() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (member.failure() instanceof Error error) {
+                    throw error;
+                }
+            }
+        }
+    }
+
+    private ToolOutput target() {
+        BufferedToolOutput memberBuffer = buffer.get();
+        return memberBuffer != null ? memberBuffer : output;
+    }
+
+    @Override
+    public DataOutputStream getDataOutputStream() throws FileNotFoundException {
+        return target().getDataOutputStream();
+    }
+
+    @Override
+    public String getCurrentClassName() {
+        return output.getCurrentClassName();
+    }
+
+    @Override
+    public void startClass(String fullyQualifiedName, Optional<String> suffix, Environment logger) throws IOException {
+        output.startClass(fullyQualifiedName, suffix, logger);
+    }
+
+    @Override
+    public void finishClass(String fullyQualifiedName) throws IOException {
+        output.finishClass(fullyQualifiedName);
+    }
+
+    @Override
+    public void printlns(String line) {
+        target().printlns(line);
+    }
+
+    @Override
+    public void prints(String line) {
+        target().prints(line);
+    }
+
+    @Override
+    public void prints(char line) {
+        target().prints(line);
+    }
+
+    @Override
+    public void flush() {
+        target().flush();
+    }
+
+    @Override
+    public boolean isReady() {
+        return output.isReady();
+    }
+
+    private record PrintedMember(BufferedToolOutput output, Throwable failure) {
+    }
+}
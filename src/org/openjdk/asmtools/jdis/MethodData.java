@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,16 +23,17 @@
 package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.asmutils.Pair;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.ClassFileContext;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.common.structure.EModifier;
 import org.openjdk.asmtools.jdis.notations.Signature;
 import org.openjdk.asmtools.jdis.notations.Type;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import static java.lang.Math.max;
 import static org.openjdk.asmtools.common.structure.ClassFileContext.METHOD;
@@ -83,7 +84,7 @@ public class MethodData extends MemberData<ClassData> {
 
     /* Read Methods */
     @Override
-    protected boolean handleAttributes(DataInputStream in, EAttribute attributeTag, int attributeLength) throws IOException {
+    protected boolean handleAttributes(ClassFileReader in, EAttribute attributeTag, int attributeLength) throws IOException {
         // Read the Attributes
         boolean handled = true;
         switch (attributeTag) {
@@ -119,7 +120,7 @@ public class MethodData extends MemberData<ClassData> {
      * Read and resolve the method data called from ClassData.
      * Precondition: Meth has already been read from the stream.
      */
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
         // read the Methods CP indexes
         access = in.readUnsignedShort(); // & MM_METHOD; // Q
         name_cpx = in.readUnsignedShort();
@@ -130,11 +131,33 @@ public class MethodData extends MemberData<ClassData> {
                                 EModifier.asNames(access, ClassFileContext.METHOD).isEmpty(),
                         name_cpx, data.pool.getString(name_cpx, index -> "???"),
                         descriptor_cpx, data.pool.getString(descriptor_cpx, index -> "???")));
-        // Read the attributes
-        readAttributes(in);
+        // Read the attributes, the attributes of the methods that aren't printed are skipped
+        if (isSelected()) {
+            readAttributes(in);
+        } else {
+            skipAttributes(in);
+        }
+    }
+
+    /**
+     * @return the execution profile of the method, or null if there is no profile or the method has no samples
+     */
+    ExecutionProfile.MethodProfile getProfile() {
+        return data.profile == null ? null :
+                data.profile.getMethod(data.className, data.pool.getString(name_cpx, index -> "#" + index),
+                        data.pool.getString(descriptor_cpx, index -> "#" + index));
     }
 
-    private void readMethodParameters(DataInputStream in) throws IOException {
+    /**
+     * @return true if the method is selected by the member filter of the class
+     */
+    public boolean isSelected() {
+        return !data.memberFilter.filtersMembers() ||
+                data.memberFilter.selectsMethod(data.pool.getString(name_cpx, index -> "#" + index),
+                        data.pool.getString(descriptor_cpx, index -> "#" + index));
+    }
+
+    private void readMethodParameters(ClassFileReader in) throws IOException {
         // this is not really a CodeAttr attribute, it's part of the CodeAttr
         int num_params = in.readUnsignedByte();
         environment.traceln(() -> "MethodParametersAttr[%d]".formatted(num_params));
@@ -302,6 +325,12 @@ public class MethodData extends MemberData<ClassData> {
             println();
         }
         printSysInfo();
+        ExecutionProfile.MethodProfile methodProfile = getProfile();
+        if (methodProfile != null) {
+            printIndentLn(String.format(Locale.ROOT, "// samples: %d (%.2f%% of all), #%d", methodProfile.getSamples(),
+                    ExecutionProfile.percentage(methodProfile.getSamples(), data.profile.getTotalSamples()),
+                    methodProfile.getRank()));
+        }
         super.printAnnotations(visibleAnnotations, invisibleAnnotations);
         super.printAnnotations(visibleTypeAnnotations, invisibleTypeAnnotations);
         String methSignature = getMethodModifiers();
@@ -38,7 +38,7 @@ import static org.openjdk.asmtools.jdis.ConstantPool.TAG.*;
  */
 public final class ModuleContent extends Indenter {
 
-    private static int MODULE_DIRECTIVE_PADDING = 9;
+    private static final int MODULE_DIRECTIVE_PADDING = 9;
     //* A module name and module_flags
     public final Header header;
     //* A service dependence's of this module
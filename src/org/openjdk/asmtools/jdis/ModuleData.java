@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,9 +23,9 @@
 package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
@@ -92,7 +92,7 @@ public class ModuleData extends MemberData<ClassData> {
     /**
      * Reads and resolve the method's attribute data called from ClassData.
      */
-    public void read(DataInputStream in) throws FormatError {
+    public void read(ClassFileReader in) throws FormatError {
         int index, moduleFlags, versionIndex;
         String moduleName, version;
         ModuleContent.Builder builder = null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,9 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import static java.lang.String.format;
@@ -47,7 +47,7 @@ public class NestMembersData extends ClassArrayData {
         tableToken = NEST_MEMBERS;
     }
 
-    public NestMembersData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public NestMembersData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         return (NestMembersData) super.read(in, attribute_length);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,26 +22,30 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
-import static org.openjdk.asmtools.jdis.Indenter.*;
 import static org.openjdk.asmtools.jdis.Options.PrintOption.*;
 
 /**
- * The singleton class to share global options among jdis classes.
+ * The class to share options among jdis classes.
+ * <p>
+ * The options are confined to the thread that sets them, so several disassemblies can run in one JVM
+ * concurrently. A worker thread takes over the options of a run by applying their immutable snapshot.
  */
 public class Options {
 
     // Initial options correspond to calling the tool without options.
-    static private final EnumSet<PrintOption> PRINT_OPTIONS = EnumSet.of(
+    static private final ThreadLocal<EnumSet<PrintOption>> PRINT_OPTIONS = ThreadLocal.withInitial(() -> EnumSet.of(
             // default option(s)
-            LABELS);
+            LABELS));
 
     public static String getPrintOptions() {
-        return PRINT_OPTIONS.stream().map(op -> format("%-26s: \"%s\"", op.name(), op.descriptor)).
+        return PRINT_OPTIONS.get().stream().map(op -> format("%-26s: \"%s\"", op.name(), op.descriptor)).
                 collect(Collectors.joining("\n"));
     }
 
@@ -72,7 +76,8 @@ public class Options {
         DROP_All("Discard SourceFile, CharacterRangeTable attributes, this_class and super_class pair", (option) -> setGroupOption(option)),
         DETAILED_Output("Detailed output"),
         EXTRA_DETAILED_Output("Detailed output, this_class and super_class pair"),
-        BEST_EFFORT("Print as much as possible despite errors");
+        BEST_EFFORT("Print as much as possible despite errors"),
+        SUMMARY("Summary: class header, member headers and annotations, other attributes are skipped");
 
         final String descriptor;
         final Consumer<PrintOption> action;
@@ -146,17 +151,11 @@ public class Options {
 
 
     public static void set(PrintOption val) {
-        if (val == PRINT_BCI) {
-            TABLE_PADDING = OPERAND_PLACEHOLDER_LENGTH + INSTR_PREFIX_LENGTH + 3;
-        }
-        PRINT_OPTIONS.add(val);
+        PRINT_OPTIONS.get().add(val);
     }
 
     public static void unset(PrintOption val) {
-        if (val == PRINT_BCI) {
-            TABLE_PADDING = OPERAND_PLACEHOLDER_LENGTH + INSTR_PREFIX_LENGTH + 1;
-        }
-        PRINT_OPTIONS.remove(val);
+        PRINT_OPTIONS.get().remove(val);
     }
 
     public static void setDetailedOutputOptions() {
@@ -186,13 +185,32 @@ public class Options {
     }
 
     public static void setDefaultOutputOptions() {
-        PRINT_OPTIONS.clear();
+        PRINT_OPTIONS.get().clear();
         set(PrintOption.LABELS);
     }
 
+    /**
+     * @return the immutable copy of the options set in the current thread
+     */
+    public static Set<PrintOption> snapshot() {
+        return Collections.unmodifiableSet(EnumSet.copyOf(PRINT_OPTIONS.get()));
+    }
+
+    /**
+     * Replaces the options of the current thread with the snapshot taken by {@link #snapshot()}
+     *
+     * @param snapshot the options of a run
+     */
+    public static void apply(Set<PrintOption> snapshot) {
+        EnumSet<PrintOption> printOptions = PRINT_OPTIONS.get();
+        printOptions.clear();
+        printOptions.addAll(snapshot);
+    }
+
     public static boolean contains(PrintOption... vals) {
+        EnumSet<PrintOption> printOptions = PRINT_OPTIONS.get();
         for (PrintOption val : vals) {
-            if (PRINT_OPTIONS.contains(val)) {
+            if (printOptions.contains(val)) {
                 return true;
             }
         }
@@ -201,6 +219,6 @@ public class Options {
 
     public static String asShortString() {
         return format("[ %s ]",
-                PRINT_OPTIONS.stream().map(item -> item.name()).collect(Collectors.joining(", ")));
+                PRINT_OPTIONS.get().stream().map(item -> item.name()).collect(Collectors.joining(", ")));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,9 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.JasmTokens;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 /**
@@ -43,7 +43,7 @@ public class PermittedSubclassesData extends ClassArrayData {
         super(cls, JasmTokens.Token.PERMITTEDSUBCLASSES);
     }
 
-    public PermittedSubclassesData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public PermittedSubclassesData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         return (PermittedSubclassesData) super.read(in, attribute_length);
     }
 }
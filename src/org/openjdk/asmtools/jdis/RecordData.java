@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,11 +22,11 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.jasm.JasmTokens;
 import org.openjdk.asmtools.jasm.TableFormatModel;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,7 +47,7 @@ public class RecordData extends MemberData<ClassData> {
         this.tableToken = TableFormatModel.Token.RECORD_DATA;
     }
 
-    public RecordData read(DataInputStream in) throws IOException {
+    public RecordData read(ClassFileReader in) throws IOException {
         int count = in.readUnsignedShort();
         environment.traceln("components=" + count);
         components = new ArrayList<>(count);
@@ -98,7 +98,7 @@ public class RecordData extends MemberData<ClassData> {
         }
 
         @Override
-        protected boolean handleAttributes(DataInputStream in, EAttribute attributeTag, int attributeLength) throws IOException {
+        protected boolean handleAttributes(ClassFileReader in, EAttribute attributeTag, int attributeLength) throws IOException {
             // Read the Attributes
             boolean handled = true;
             if (attributeTag == EAttribute.ATT_Signature) {
@@ -115,7 +115,7 @@ public class RecordData extends MemberData<ClassData> {
         /**
          * Read and resolve the component data called from ClassData.
          */
-        public Component read(DataInputStream in) throws IOException {
+        public Component read(ClassFileReader in) throws IOException {
             // read the Component CP indexes
             name_cpx = in.readUnsignedShort();
             descriptor_cpx = in.readUnsignedShort();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,11 +25,11 @@ package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.asmutils.Pair;
 import org.openjdk.asmtools.common.FormatError;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.jdis.notations.Signature;
 import org.openjdk.asmtools.jdis.notations.Type;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.function.Function;
 
@@ -68,7 +68,7 @@ public class SignatureData extends MemberData<ClassData> {
         return !dropSignatures;
     }
 
-    public SignatureData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public SignatureData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         if (attribute_length != 2) {
             if (bestEffort) {
                 environment.getLogger().error(
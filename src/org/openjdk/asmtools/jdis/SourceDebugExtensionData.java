@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 import java.util.List;
 
@@ -46,7 +47,7 @@ public class SourceDebugExtensionData extends Indenter {
         super(classData.toolOutput);
     }
 
-    public SourceDebugExtensionData read(DataInputStream in, int attribute_length) throws IOException, ClassFormatError {
+    public SourceDebugExtensionData read(ClassFileReader in, int attribute_length) throws IOException, ClassFormatError {
         debug_extension = readUtf8String(in, attribute_length, 76 - getIndentSize());
         return this;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,10 +24,10 @@ package org.openjdk.asmtools.jdis;
 
 import org.openjdk.asmtools.asmutils.Pair;
 import org.openjdk.asmtools.asmutils.Range;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.common.structure.EAttribute;
 import org.openjdk.asmtools.common.structure.StackMap;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,7 +72,7 @@ import static org.openjdk.asmtools.jasm.TableFormatModel.Token.STACK_MAP_TABLE;
  */
 public class StackMapData extends MemberData<CodeData> {
 
-    static Range<Integer> range = new Range<>(247, 255);
+    static final Range<Integer> range = new Range<>(247, 255);
 
     private final EAttribute attribute;
 
@@ -259,7 +259,7 @@ public class StackMapData extends MemberData<CodeData> {
      * @param in   the input stream
      * @throws IOException the exception if something went wrong
      */
-    public StackMapData(CodeData code, DataInputStream in) throws IOException {
+    public StackMapData(CodeData code, ClassFileReader in) throws IOException {
         super(code);
         this.attribute = ATT_StackMap;
 
@@ -285,7 +285,7 @@ public class StackMapData extends MemberData<CodeData> {
      * @param in            the input stream
      * @throws IOException the exception if something went wrong
      */
-    public StackMapData(boolean firstStackMap, int prevFrame_pc, CodeData code, DataInputStream in) throws IOException {
+    public StackMapData(boolean firstStackMap, int prevFrame_pc, CodeData code, ClassFileReader in) throws IOException {
         super(code);
         this.attribute = ATT_StackMapTable;
 
@@ -454,12 +454,12 @@ public class StackMapData extends MemberData<CodeData> {
         return this;
     }
 
-    private int[] readMap(DataInputStream in) throws IOException {
+    private int[] readMap(ClassFileReader in) throws IOException {
         int num = in.readUnsignedShort();
         return readMapElements(in, num);
     }
 
-    private int[] readFields(DataInputStream in) throws IOException {
+    private int[] readFields(ClassFileReader in) throws IOException {
         int num = in.readUnsignedShort();
         int[] fields = new int[num];
         for (int i = 0; i < num; i++) {
@@ -468,7 +468,7 @@ public class StackMapData extends MemberData<CodeData> {
         return fields;
     }
 
-    private int[] readMapElements(DataInputStream in, int num) throws IOException {
+    private int[] readMapElements(ClassFileReader in, int num) throws IOException {
         int[] map = new int[num];
         for (int k = 0; k < num; k++) {
             int mt_val;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,7 +22,8 @@
  */
 package org.openjdk.asmtools.jdis;
 
-import java.io.DataInputStream;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
 import java.io.IOException;
 
 /**
@@ -39,7 +40,7 @@ class TrapData {
         handler_pc,     // u2
         catch_cpx;      // u2
 
-    public TrapData(DataInputStream in, int num) throws IOException {
+    public TrapData(ClassFileReader in, int num) throws IOException {
         this.num = num;
         start_pc = in.readUnsignedShort();
         end_pc = in.readUnsignedShort();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1996, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1996, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,10 +22,10 @@
  */
 package org.openjdk.asmtools.jdis;
 
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
 import org.openjdk.asmtools.jasm.TypeAnnotationTargetInfoData;
 import org.openjdk.asmtools.jasm.TypeAnnotationTypePathData;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import static org.openjdk.asmtools.jasm.TypeAnnotationTargetInfoData.*;
@@ -56,7 +56,7 @@ public class TypeAnnotationData<T extends MemberData> extends AnnotationData {
     }
 
     @Override
-    public void read(DataInputStream in) throws IOException {
+    public void read(ClassFileReader in) throws IOException {
 
         int targetTypeID = in.readUnsignedByte();
         ETargetType targetType = ETargetType.getTargetType(targetTypeID);
@@ -124,9 +124,9 @@ public class TypeAnnotationData<T extends MemberData> extends AnnotationData {
 
         private TypeAnnotationTargetInfoData targetInfo = null;
         private IOException IOProb = null;
-        private DataInputStream in;
+        private ClassFileReader in;
 
-        public void init(DataInputStream in) {
+        public void init(ClassFileReader in) {
             this.in = in;
         }
 
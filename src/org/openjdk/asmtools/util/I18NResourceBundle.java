@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -163,6 +163,6 @@ public class I18NResourceBundle extends ResourceBundle {
     }
 
     private String name;
-    private ResourceBundle delegate;
+    private volatile ResourceBundle delegate;
     private ClassLoader classLoader;
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.lib.helper.ThreeStringWriters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the tools by the asmtools server and compares the results with the results of the tools run in-process.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ServerTests {
+
+    private Path tempDir;
+    private Path socket;
+    private Server server;
+    private byte[] classFile;
+    private String expectedJasm;
+
+    @BeforeAll
+    public void init(@TempDir Path tempDir) throws IOException {
+        this.tempDir = tempDir;
+        try (InputStream in = Server.class.getResourceAsStream("Server.class")) {
+            classFile = in.readAllBytes();
+        }
+        Files.write(tempDir.resolve("Server.class"), classFile);
+        ThreeStringWriters writers = new ThreeStringWriters();
+        new org.openjdk.asmtools.jdis.Main(writers.getToolOutputWrapper(), writers.getLoggers(),
+                new ByteInput(classFile)).disasm();
+        writers.flush();
+        expectedJasm = writers.getToolBos();
+        socket = tempDir.resolve("asmtools.sock");
+        server = new Server(socket);
+        Thread thread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @AfterAll
+    public void close() throws IOException {
+        server.close();
+        assertTrue(Files.notExists(socket));
+    }
+
+    @Test
+    public void relativeFileNamesAreResolvedAgainstWorkingDirectory() throws IOException {
+        Result result = run(null, "jdis", "Server.class");
+        assertEquals(0, result.status, result.err);
+        assertEquals(expectedJasm, result.out);
+    }
+
+    @Test
+    public void socketIsAccessibleOnlyByOwner() throws IOException {
+        assumeTrue(socket.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)));
+        // the directory the socket was bound in is removed
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of("Server.class", "asmtools.sock"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    @Test
+    public void stdinIsForwarded() throws IOException {
+        Result result = run(classFile, "jdis", "-");
+        assertEquals(0, result.status, result.err);
+        assertEquals(expectedJasm, result.out);
+    }
+
+    @Test
+    public void invalidArgumentsDoNotStopServer() throws IOException {
+        Result result = run(null, "jdis", "-j");
+        assertEquals(1, result.status);
+        assertTrue(result.err.contains("-j requires argument <threads>"), result.err);
+        result = run(null, "nosuchtool");
+        assertEquals(1, result.status);
+        result = run(null, "jdis", "Server.class");
+        assertEquals(0, result.status, result.err);
+    }
+
+    @Test
+    public void requestsRunConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Result>> results = executor.invokeAll(Collections.nCopies(32,
+                    () -> run(null, "jdis", "-g", "Server.class")));
+            String expected = results.get(0).get().out;
+            for (Future<Result> result : results) {
+                assertEquals(0, result.get().status, result.get().err);
+                assertEquals(expected, result.get().out);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Result run(byte[] stdin, String... args) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = Client.run(socket, tempDir, stdin == null ? null : new ByteArrayInputStream(stdin), out, err, args);
+        return new Result(status, out.toString(StandardCharsets.UTF_8), err.toString(StandardCharsets.UTF_8));
+    }
+
+    private record Result(int status, String out, String err) {
+    }
+}
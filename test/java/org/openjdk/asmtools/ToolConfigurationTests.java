@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs shared tool configurations from many threads at once and compares the results with the sequential runs.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ToolConfigurationTests {
+
+    private static final int RUNS = 32;
+
+    private byte[] classFile;
+
+    @BeforeAll
+    public void init() throws IOException {
+        try (InputStream in = ToolConfiguration.class.getResourceAsStream("ToolConfiguration.class")) {
+            classFile = in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void unknownToolAndInvalidOption() {
+        assertThrows(IllegalArgumentException.class, () -> ToolConfiguration.of("javac"));
+        assertThrows(IllegalArgumentException.class, () -> ToolConfiguration.of("jdis", "-unknown"));
+    }
+
+    @Test
+    public void jasmRoundTrip() {
+        ToolConfiguration.Result jdis = ToolConfiguration.of("jdis").run(new ByteInput(classFile));
+        assertEquals(0, jdis.status(), jdis.log());
+        ToolConfiguration.Result jasm = ToolConfiguration.of("jasm").run(new ByteInput(jdis.outputs().get(0).getBody()));
+        assertEquals(0, jasm.status(), jasm.log());
+        assertEquals("org/openjdk/asmtools/ToolConfiguration", jasm.outputs().get(0).getFqn());
+    }
+
+    @Test
+    public void concurrentRunsWithDifferentOptions() throws Exception {
+        List<ToolConfiguration> configurations = List.of(
+                ToolConfiguration.of("jdis"),
+                ToolConfiguration.of("jdis", "-g"),
+                ToolConfiguration.of("jdis", "-nc", "-hx"),
+                ToolConfiguration.of("jdec"),
+                ToolConfiguration.of("jdec", "-g"));
+        List<String> expected = new ArrayList<>();
+        for (ToolConfiguration configuration : configurations) {
+            expected.add(text(configuration.run(new ByteInput(classFile))));
+        }
+        assertEquals(expected.size(), expected.stream().distinct().count(), "the options must change the outputs");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < RUNS; i++) {
+                ToolConfiguration configuration = configurations.get(i % configurations.size());
+                results.add(executor.submit(() -> text(configuration.run(new ByteInput(classFile)))));
+            }
+            for (int i = 0; i < RUNS; i++) {
+                assertEquals(expected.get(i % configurations.size()), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String text(ToolConfiguration.Result result) {
+        assertEquals(0, result.status(), result.log());
+        assertEquals(1, result.outputs().size());
+        return new String(result.outputs().get(0).getBody(), StandardCharsets.UTF_8);
+    }
+}
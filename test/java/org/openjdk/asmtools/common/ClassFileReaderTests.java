@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The class file reader reads the lines as DataInputStream reads them.
+ */
+public class ClassFileReaderTests {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void readLine() throws IOException {
+        for (String text : new String[]{"", "a", "a\n", "a\r", "a\r\n", "a\n\rb", "\r\r\n\n", "x\r\ny\rz\néÿ"}) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            ClassFileReader reader = new ClassFileReader(bytes);
+            DataInputStream expected = new DataInputStream(new ByteArrayInputStream(bytes));
+            String line;
+            do {
+                line = expected.readLine();
+                assertEquals(line, reader.readLine(), text);
+            } while (line != null);
+        }
+    }
+
+    @Test
+    public void readLineWithinLimit() {
+        byte[] bytes = "--ab\r\ncd\r\n--".getBytes(StandardCharsets.ISO_8859_1);
+        // the \r ends the data, the \n following it isn't read
+        ClassFileReader reader = new ClassFileReader(bytes, 2, 7);
+        assertEquals("ab", reader.readLine());
+        assertEquals("cd", reader.readLine());
+        assertNull(reader.readLine());
+    }
+}
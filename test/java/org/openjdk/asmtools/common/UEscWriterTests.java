@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The text written by uEscWriter is encoded as String.getBytes(UTF_8) encodes it, whatever the chunks are.
+ */
+public class UEscWriterTests {
+
+    private static final String TEXT = "ascii éß Жы €中 " +
+            "😀 𝄞 \ud800 lone high, \udc00 lone low, end\ud83d";
+
+    @Test
+    public void offsets() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (uEscWriter writer = new uEscWriter(bytes)) {
+            char[] chars = "__abcé__".toCharArray();
+            writer.write(chars, 2, 4);
+            writer.write("--xyz--", 2, 3);
+        }
+        assertEquals("abcéxyz", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void chunks() throws IOException {
+        byte[] expected = TEXT.getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(17);
+        for (int bufferSize : new int[]{1, 5, 7, 64, 8192}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (uEscWriter writer = new uEscWriter(bytes, bufferSize)) {
+                for (int i = 0; i < TEXT.length(); ) {
+                    int len = Math.min(TEXT.length() - i, random.nextInt(4));
+                    switch (random.nextInt(3)) {
+                        case 0 -> writer.write(TEXT, i, len);
+                        case 1 -> writer.write(TEXT.toCharArray(), i, len);
+                        default -> {
+                            for (int k = i; k < i + len; k++) {
+                                writer.write(TEXT.charAt(k));
+                            }
+                        }
+                    }
+                    i += len;
+                }
+            }
+            assertArrayEquals(expected, bytes.toByteArray(), "buffer size " + bufferSize);
+        }
+    }
+
+    @Test
+    public void buffered() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintWriter writer = new PrintWriter(new uEscWriter(bytes), false);
+        writer.println("line");
+        assertEquals(0, bytes.size(), "the text is buffered until the writer is flushed");
+        writer.flush();
+        assertEquals("line" + System.lineSeparator(), bytes.toString(StandardCharsets.UTF_8));
+    }
+}
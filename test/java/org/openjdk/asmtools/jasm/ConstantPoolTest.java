@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jasm;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.lib.helper.ThreeStringWriters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Checks the indexes the constant pool entries get when a class declares some of them explicitly.
+ */
+public class ConstantPoolTest {
+
+    @Test
+    public void itemizedCellsTakeVacantSlotsAndEqualValues() {
+        String source = """
+                super class Gaps version 52:0 {
+                  const #1 = Utf8 "first";
+                  const #3 = Utf8 "J";
+                  const #5 = long 5l;
+                  const #8 = Utf8 "eighth";
+                  static final Field big:J = long 5l;
+                  static final Field small:J = long 6l;
+                }
+                """;
+        List<String> expected = List.of(
+                "const #1 = Utf8 \"first\";",
+                "const #2 = Utf8 \"Gaps\";",
+                "const #3 = Utf8 \"J\";",
+                "const #4 = class #2;",
+                "const #5 = long 5l;",
+                "const #7 = Utf8 \"big\";",
+                "const #8 = Utf8 \"eighth\";",
+                "const #9 = Utf8 \"ConstantValue\";",
+                "const #10 = Utf8 \"small\";",
+                "const #11 = long 6l;",
+                "const #13 = Utf8 \"SourceFile\";");
+        Assertions.assertEquals(expected, getPool(source).subList(0, expected.size()));
+    }
+
+    // Compiles the source and returns its constant pool as jdis -g prints it without comments
+    private List<String> getPool(String source) {
+        ByteOutput output = new ByteOutput();
+        ThreeStringWriters jasmWriters = new ThreeStringWriters();
+        Main jasm = new Main(output, jasmWriters.getLoggers(), new ByteInput(source.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(0, jasm.compile());
+        Assertions.assertEquals(1, output.getOutputs().size());
+
+        ThreeStringWriters jdisWriters = new ThreeStringWriters();
+        ByteInput classFile = new ByteInput(output.getOutputs().get(0).getBody());
+        Assertions.assertEquals(0, new org.openjdk.asmtools.jdis.Main(jdisWriters.getToolOutputWrapper(),
+                jdisWriters.getLoggers(), classFile, "-g").disasm());
+        jdisWriters.flush();
+        return jdisWriters.getToolBos().lines().
+                map(String::strip).
+                filter(line -> line.startsWith("const #")).
+                map(line -> line.replaceAll("\\s*//.*", "").replaceAll("\\s+", " ")).
+                toList();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jasm;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.common.inputs.FileInput;
+import org.openjdk.asmtools.common.inputs.ToolInput;
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.common.outputs.ZipOutput;
+import org.openjdk.asmtools.lib.helper.ThreeStringWriters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public class MainTest {
+
+    private static final String RESOURCE_DIR = "/org/openjdk/asmtools/structure/ClassFile/";
+
+    @Test
+    public void parallelOutputIsTheSameAsSequential() {
+        ToolInput[] inputs = getInputs(false);
+        Compilation sequential = new Compilation(inputs);
+        Compilation parallel = new Compilation(inputs, "-j", "4");
+        Assertions.assertEquals(0, sequential.rc);
+        Assertions.assertEquals(0, parallel.rc);
+        Assertions.assertEquals(inputs.length, parallel.classes.size());
+        sequential.assertSameAs(parallel);
+    }
+
+    @Test
+    public void continueAfterErrors() {
+        ToolInput[] inputs = getInputs(true);
+        int broken = inputs.length / 2;
+        for (String[] threads : List.of(new String[]{"-j", "1"}, new String[]{"-j", "4"})) {
+            Compilation stopped = new Compilation(inputs, threads);
+            Assertions.assertNotEquals(0, stopped.rc);
+            Assertions.assertEquals(broken, stopped.classes.size());
+
+            Compilation continued = new Compilation(inputs, threads[0], threads[1], "-continue");
+            Assertions.assertNotEquals(0, continued.rc);
+            Assertions.assertEquals(inputs.length - 1, continued.classes.size());
+            Assertions.assertTrue(continued.log.startsWith(stopped.log));
+        }
+        new Compilation(inputs, "-continue").assertSameAs(new Compilation(inputs, "-j", "4", "-continue"));
+    }
+
+    @Test
+    public void zipOutputIsTheSameAsByteOutput() throws IOException {
+        // ClassFile07.jasm declares ClassFile06 class too, the later class replaces the entry
+        ToolInput[] inputs = getInputs(false);
+        Compilation expected = new Compilation(inputs).lastWins();
+        Assertions.assertTrue(expected.classes.size() < inputs.length);
+        for (boolean stored : new boolean[]{false, true}) {
+            byte[] zipBody = null;
+            for (String threads : List.of("1", "4")) {
+                File zip = File.createTempFile("asmtools-jasmtest", stored ? ".zip" : ".jar");
+                zip.deleteOnExit();
+                List<String> args = new ArrayList<>(List.of("-zip", zip.getPath(), "-j", threads));
+                if (stored) {
+                    args.add("-0");
+                }
+                Compilation compilation = new Compilation(inputs, args.toArray(String[]::new));
+                Assertions.assertEquals(0, compilation.rc);
+                Assertions.assertTrue(compilation.classes.isEmpty());
+                try (ZipFile zipFile = new ZipFile(zip)) {
+                    List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+                    Assertions.assertEquals(expected.classes.size(), entries.size());
+                    for (int i = 0; i < entries.size(); i++) {
+                        ZipEntry entry = entries.get(i);
+                        Assertions.assertEquals(expected.classes.get(i) + ".class", entry.getName());
+                        Assertions.assertEquals(stored ? ZipEntry.STORED : ZipEntry.DEFLATED, entry.getMethod());
+                        Assertions.assertEquals(ZipOutput.ENTRY_TIME, entry.getTimeLocal());
+                        Assertions.assertArrayEquals(expected.bodies.get(i), zipFile.getInputStream(entry).readAllBytes());
+                    }
+                }
+                // the same classes result in the same file
+                if (zipBody == null) {
+                    zipBody = Files.readAllBytes(zip.toPath());
+                } else {
+                    Assertions.assertArrayEquals(zipBody, Files.readAllBytes(zip.toPath()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void zipOutputKeepsLastDuplicateClass() throws IOException {
+        String classes = "super class A version 52:0 { } super class B version 52:0 { } super class A version 55:0 { }";
+        ToolInput[] inputs = {new ByteInput(classes.getBytes(StandardCharsets.UTF_8))};
+        Compilation expected = new Compilation(inputs);
+        Assertions.assertEquals(List.of("A", "B", "A"), expected.classes);
+        for (boolean stored : new boolean[]{false, true}) {
+            for (boolean streamed : new boolean[]{false, true}) {
+                File zip = File.createTempFile("asmtools-jasmtest", stored ? ".zip" : ".jar");
+                zip.deleteOnExit();
+                List<String> args = new ArrayList<>(List.of("-zip", zip.getPath()));
+                if (stored) {
+                    args.add("-0");
+                }
+                if (streamed) {
+                    args.add("-stream");
+                }
+                Compilation compilation = new Compilation(inputs, args.toArray(String[]::new));
+                Assertions.assertEquals(0, compilation.rc);
+                try (ZipFile zipFile = new ZipFile(zip)) {
+                    List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+                    Assertions.assertEquals(List.of("B.class", "A.class"),
+                            entries.stream().map(ZipEntry::getName).toList());
+                    for (int i = 0; i < entries.size(); i++) {
+                        Assertions.assertArrayEquals(expected.bodies.get(i + 1),
+                                zipFile.getInputStream(entries.get(i)).readAllBytes());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void streamedClassesAreTheSameAsCollected() {
+        String classes = "super class A version 52:0 { } super class B version 52:0 { } super class C version 52:0 { }";
+        ToolInput[] inputs = {new ByteInput(classes.getBytes(StandardCharsets.UTF_8))};
+        Compilation collected = new Compilation(inputs);
+        Assertions.assertEquals(0, collected.rc);
+        Assertions.assertEquals(List.of("A", "B", "C"), collected.classes);
+        collected.assertSameAs(new Compilation(inputs, "-stream"));
+
+        // the classes preceding the error are written only if they are streamed
+        inputs = new ToolInput[]{new ByteInput((classes + " class Broken { int x }").getBytes(StandardCharsets.UTF_8))};
+        collected = new Compilation(inputs);
+        Compilation streamed = new Compilation(inputs, "-stream");
+        Assertions.assertNotEquals(0, collected.rc);
+        Assertions.assertTrue(collected.classes.isEmpty());
+        Assertions.assertEquals(collected.rc, streamed.rc);
+        Assertions.assertEquals(List.of("A", "B", "C"), streamed.classes);
+    }
+
+    // ClassFile00.jasm .. ClassFile09.jasm, the one in the middle is replaced with a broken source if required
+    private ToolInput[] getInputs(boolean withBrokenInput) {
+        ToolInput[] inputs = IntStream.range(0, 10).
+                mapToObj(i -> new FileInput(new File(this.getClass().getResource(RESOURCE_DIR + "ClassFile0" + i + ".jasm").getFile()).getPath())).
+                toArray(ToolInput[]::new);
+        if (withBrokenInput) {
+            inputs[inputs.length / 2] = new ByteInput("class Broken { int x }".getBytes(StandardCharsets.UTF_8));
+        }
+        return inputs;
+    }
+
+    private static class Compilation {
+        final int rc;
+        final List<String> classes = new ArrayList<>();
+        final List<byte[]> bodies = new ArrayList<>();
+        final String log;
+
+        Compilation(ToolInput[] inputs, String... args) {
+            ByteOutput output = new ByteOutput();
+            ThreeStringWriters writers = new ThreeStringWriters();
+            Main jasm = new Main(output, writers.getLoggers(), inputs);
+            jasm.parseArgs(args);
+            rc = jasm.compile();
+            writers.flush();
+            output.getOutputs().forEach(binary -> {
+                classes.add(binary.getFqn());
+                bodies.add(binary.getBody());
+            });
+            log = writers.getErrorBos();
+        }
+
+        /**
+         * Drops the classes written again later, as the entries of a jar or zip file are replaced
+         */
+        Compilation lastWins() {
+            for (int i = classes.size() - 1; i >= 0; i--) {
+                if (classes.subList(i + 1, classes.size()).contains(classes.get(i))) {
+                    classes.remove(i);
+                    bodies.remove(i);
+                }
+            }
+            return this;
+        }
+
+        void assertSameAs(Compilation other) {
+            Assertions.assertEquals(rc, other.rc);
+            Assertions.assertEquals(classes, other.classes);
+            for (int i = 0; i < bodies.size(); i++) {
+                Assertions.assertArrayEquals(bodies.get(i), other.bodies.get(i), classes.get(i));
+            }
+            Assertions.assertEquals(log, other.log);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.readClass;
+
+/**
+ * The instructions are annotated with the execution samples read from a JFR recording (-profile option).
+ */
+public class ExecutionProfileTests {
+
+    private static final String CLASS_NAME = "org/openjdk/asmtools/jdis/ExecutionProfileTests";
+
+    private static volatile long sink;
+
+    @Test
+    public void aggregation() {
+        ExecutionProfile profile = new ExecutionProfile().
+                add("p/A", "run", "()V", 3).add("p/A", "run", "()V", 3).add("p/A", "run", "()V", 7).
+                add("p/A", "init", "()V", -1).
+                add("p/B", "call", "(I)I", 0).add("p/B", "call", "(I)I", 0).rank();
+        assertEquals(6, profile.getTotalSamples());
+        ExecutionProfile.MethodProfile run = profile.getMethod("p/A", "run", "()V");
+        assertEquals(3, run.getSamples());
+        assertEquals(2, run.getSamples(3));
+        assertEquals(0, run.getSamples(5));
+        assertEquals(1, run.getRank());
+        assertEquals(2, profile.getMethod("p/B", "call", "(I)I").getRank());
+        assertEquals(List.of("run", "init"), profile.getMethods("p/A").stream().map(m -> m.getName()).toList());
+        assertNull(profile.getMethod("p/A", "run", "(I)V"));
+        assertEquals(50.0, ExecutionProfile.percentage(3, 6));
+    }
+
+    @Test
+    public void annotatedDisassembly(@TempDir Path directory) throws IOException {
+        Path recordingFile = directory.resolve("spin.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ExecutionProfile.EXECUTION_SAMPLE).withPeriod(Duration.ofMillis(1));
+            recording.start();
+            long deadline = System.nanoTime() + Duration.ofMillis(500).toNanos();
+            while (System.nanoTime() < deadline) {
+                sink += spin(10_000);
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        ExecutionProfile profile = ExecutionProfile.read(recordingFile);
+        ExecutionProfile.MethodProfile spin = profile.getMethod(CLASS_NAME, "spin", "(I)J");
+        assumeTrue(spin != null, "the spinning thread is not sampled");
+
+        ToolConfiguration jdis = ToolConfiguration.of("jdis", "-profile", recordingFile.toString(), "-method", "spin");
+        // the recording is read once by the configuration
+        Files.delete(recordingFile);
+        byte[] classFile = readClass(ExecutionProfileTests.class);
+        ToolConfiguration.Result result = jdis.run(new ByteInput(classFile));
+        assertEquals(0, result.status(), result.log());
+        // the output doesn't depend on the locale, e.g. on its decimal separator
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.GERMANY);
+            assertArrayEquals(result.outputs().get(0).getBody(),
+                    jdis.run(new ByteInput(classFile)).outputs().get(0).getBody());
+        } finally {
+            Locale.setDefault(locale);
+        }
+        String text = new String(result.outputs().get(0).getBody());
+        assertTrue(text.contains("Execution profile: "), text);
+        assertTrue(text.contains("#%d".formatted(spin.getRank())), text);
+        assertTrue(text.contains("// samples: %d (".formatted(spin.getSamples())), text);
+        assertTrue(text.lines().anyMatch(line -> line.trim().startsWith("// samples: ") && line.endsWith("%)")), text);
+    }
+
+    @Test
+    public void missingRecording(@TempDir Path directory) {
+        assertThrows(IllegalArgumentException.class,
+                () -> ToolConfiguration.of("jdis", "-profile", directory.resolve("none.jfr").toString()));
+    }
+
+    private static long spin(int count) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = value * 31 + (i ^ (value >>> 7));
+        }
+        return value;
+    }
+}
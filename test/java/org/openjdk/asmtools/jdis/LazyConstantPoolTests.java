@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.readClass;
+
+/**
+ * The constant pool entries are decoded when they are used unless the constant pool is printed.
+ */
+public class LazyConstantPoolTests {
+
+    @Test
+    public void unusedMalformedEntry() throws IOException {
+        byte[][] entries = {
+                {1, 0, 1, (byte) 0xFF},                                 // no such UTF-8 byte
+                {1, 0, 2, 'a', (byte) 0xC3},                            // partial 2-byte character at end
+                {1, 0, 3, (byte) 0xE2, (byte) 0x82, 'a'},               // bad continuation of a 3-byte character
+        };
+        for (byte[] entry : entries) {
+            byte[] classFile = withUnusedEntry(readClass(ConstantPool.class), entry);
+            ToolConfiguration.Result lazy = ToolConfiguration.of("jdis").run(new ByteInput(classFile));
+            assertNotEquals(0, lazy.status(), "the skipped Utf8 entry is malformed");
+            ToolConfiguration.Result eager = ToolConfiguration.of("jdis", "-g").run(new ByteInput(classFile));
+            assertNotEquals(0, eager.status(), "the printed constant pool has the malformed Utf8 entry");
+        }
+    }
+
+    @Test
+    public void sameOutput() throws IOException {
+        byte[] classFile = readClass(ConstantPool.class);
+        ToolConfiguration.Result original = ToolConfiguration.of("jdis").run(new ByteInput(classFile));
+        // "a\u00E9\u20AC": 1, 2 and 3-byte characters
+        byte[] entry = {1, 0, 6, 'a', (byte) 0xC3, (byte) 0xA9, (byte) 0xE2, (byte) 0x82, (byte) 0xAC};
+        ToolConfiguration.Result extended = ToolConfiguration.of("jdis").run(
+                new ByteInput(withUnusedEntry(classFile, entry)));
+        assertEquals(0, original.status(), original.log());
+        assertEquals(new String(original.outputs().get(0).getBody()), new String(extended.outputs().get(0).getBody()));
+    }
+
+    /**
+     * @return the class file with the entry appended to its constant pool
+     */
+    private static byte[] withUnusedEntry(byte[] classFile, byte[] entry) {
+        ByteBuffer buffer = ByteBuffer.wrap(classFile);
+        buffer.position(8);
+        int count = buffer.getShort() & 0xFFFF;
+        for (int i = 1; i < count; i++) {
+            int tag = buffer.get();
+            switch (tag) {
+                case 1 -> {
+                    int length = buffer.getShort() & 0xFFFF;
+                    buffer.position(buffer.position() + length);
+                }
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> buffer.position(buffer.position() + 4);
+                case 5, 6 -> {
+                    buffer.position(buffer.position() + 8);
+                    i++;
+                }
+                case 7, 8, 16, 19, 20 -> buffer.position(buffer.position() + 2);
+                case 15 -> buffer.position(buffer.position() + 3);
+                default -> throw new IllegalArgumentException("tag " + tag);
+            }
+        }
+        int end = buffer.position();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(classFile, 0, 8);
+        out.write((count + 1) >> 8);
+        out.write(count + 1);
+        out.write(classFile, 10, end - 10);
+        out.write(entry, 0, entry.length);
+        out.write(classFile, end, classFile.length - end);
+        return out.toByteArray();
+    }
+}
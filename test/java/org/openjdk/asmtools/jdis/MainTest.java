@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,10 +32,16 @@ import org.openjdk.asmtools.common.outputs.log.StderrLog;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
 
 class MainTest extends ClassPathClassWork {
 
@@ -177,4 +183,82 @@ class MainTest extends ClassPathClassWork {
         }
     }
 
+    @Test
+    public void parallelOutputIsTheSameAsSequential() {
+        String[] classFiles = Stream.of(Main.class, ClassData.class, CodeData.class, ConstantPool.class, Options.class).
+                map(c -> "./target/classes/" + c.getName().replace('.', '/') + ".class").toArray(String[]::new);
+        ThreeStringWriters sequential = new ThreeStringWriters();
+        int i = new Main(sequential.getToolOutputWrapper(), sequential.getLoggers(), classFiles).disasm();
+        sequential.flush();
+        Assertions.assertEquals(0, i);
+        String[] args = Stream.concat(Stream.of("-j", "4"), Stream.of(classFiles)).toArray(String[]::new);
+        ThreeStringWriters parallel = new ThreeStringWriters();
+        i = new Main(parallel.getToolOutputWrapper(), parallel.getLoggers(), args).disasm();
+        parallel.flush();
+        Assertions.assertEquals(0, i);
+        Assertions.assertFalse(parallel.getToolBos().isEmpty());
+        Assertions.assertEquals(sequential.getToolBos(), parallel.getToolBos());
+        Assertions.assertEquals(sequential.getErrorBos(), parallel.getErrorBos());
+    }
+
+    @Test
+    public void membersOfLargeClassAreTheSameAsSequential() {
+        // the classes have more methods and fields respectively than the members printed sequentially
+        for (String classFile : List.of("jrt:/java.base/jdk/internal/misc/Unsafe.class",
+                "jrt:/java.base/java/lang/Character$UnicodeBlock.class")) {
+            ThreeStringWriters sequential = new ThreeStringWriters();
+            int i = new Main(sequential.getToolOutputWrapper(), sequential.getLoggers(), "-g", classFile).disasm();
+            sequential.flush();
+            Assertions.assertEquals(0, i);
+            ThreeStringWriters parallel = new ThreeStringWriters();
+            i = new Main(parallel.getToolOutputWrapper(), parallel.getLoggers(), "-g", "-j", "4", classFile).disasm();
+            parallel.flush();
+            Assertions.assertEquals(0, i);
+            Assertions.assertFalse(parallel.getToolBos().isEmpty());
+            Assertions.assertEquals(sequential.getToolBos(), parallel.getToolBos());
+            Assertions.assertEquals(sequential.getErrorBos(), parallel.getErrorBos());
+        }
+    }
+
+    @Test
+    public void archiveEntriesAreTheSameAsClassFiles() throws IOException {
+        // the entries are enumerated in the order of their names
+        List<Class<?>> classes = List.of(ClassData.class, CodeData.class, ConstantPool.class, Main.class);
+        File jar = File.createTempFile("asmtools-jdistest", ".jar");
+        jar.deleteOnExit();
+        try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(jar))) {
+            jos.putNextEntry(new JarEntry("META-INF/notes.txt"));
+            jos.write("not a class file".getBytes(StandardCharsets.UTF_8));
+            for (Class<?> c : Stream.concat(classes.stream(), Stream.of(Options.class)).toList()) {
+                String entryName = c.getName().replace('.', '/') + ".class";
+                jos.putNextEntry(new JarEntry(entryName));
+                jos.write(Files.readAllBytes(Path.of("./target/classes/" + entryName)));
+            }
+        }
+        ThreeStringWriters files = new ThreeStringWriters();
+        int i = new Main(files.getToolOutputWrapper(), files.getLoggers(), classes.stream().
+                map(c -> "./target/classes/" + c.getName().replace('.', '/') + ".class").toArray(String[]::new)).disasm();
+        files.flush();
+        Assertions.assertEquals(0, i);
+        ThreeStringWriters entries = new ThreeStringWriters();
+        i = new Main(entries.getToolOutputWrapper(), entries.getLoggers(),
+                "-exclude", "**/Options.class", jar.getAbsolutePath()).disasm();
+        entries.flush();
+        Assertions.assertEquals(0, i);
+        Assertions.assertTrue(entries.getErrorBos().isEmpty());
+        Assertions.assertEquals(files.getToolBos(), entries.getToolBos());
+    }
+
+    @Test
+    public void runtimeImageEntries() {
+        ThreeStringWriters outs = new ThreeStringWriters();
+        int i = new Main(outs.getToolOutputWrapper(), outs.getLoggers(),
+                "-include", "java.base/java/util/function/*Function.class", "jrt:/java.base/java/util/function").disasm();
+        outs.flush();
+        Assertions.assertEquals(0, i);
+        Assertions.assertTrue(outs.getErrorBos().isEmpty());
+        Assertions.assertTrue(outs.getToolBos().contains("interface Function"));
+        Assertions.assertTrue(outs.getToolBos().contains("interface BiFunction"));
+        Assertions.assertFalse(outs.getToolBos().contains("interface Supplier"));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.lib.helper.ToolConfigurationHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.readClass;
+
+/**
+ * The options -class, -field and -method select the classes and members printed by jdis.
+ */
+public class MemberFilterTests {
+
+    private static final Pattern MEMBER = Pattern.compile("^  (?:[a-z]+ )*((?:Field|Method)\\s+[^:]+:\"[^\"]*\")",
+            Pattern.MULTILINE);
+
+    @Test
+    public void methodsOnly() throws IOException {
+        List<String> members = members(disassemble("-method", "getClassName:(I)**"));
+        assertEquals(List.of("Method getClassName:\"(I)Ljava/lang/String;\""), members,
+                "fields aren't printed if only methods are selected");
+    }
+
+    @Test
+    public void fieldsAndMethods() throws IOException {
+        List<String> members = members(disassemble("-field", "pool", "-method", "read"));
+        assertEquals(List.of("Field pool", "Method read"),
+                members.stream().map(member -> member.substring(0, member.indexOf(':'))).toList());
+    }
+
+    @Test
+    public void classes() throws IOException {
+        assertFalse(disassemble("-class", "org.openjdk.asmtools.jdis.Const*").isEmpty());
+        assertTrue(disassemble("-class", "*.jasm.*").isEmpty(), "the class isn't selected");
+    }
+
+    @Test
+    public void missingGlob() {
+        assertThrows(IllegalArgumentException.class, () -> ToolConfiguration.of("jdis", "-method"));
+    }
+
+    @Test
+    public void globs() {
+        MemberFilter filter = new MemberFilter().addClass("java.util.?ashMap").addMethod("<init>").addMethod("*:()V");
+        assertTrue(filter.selectsClass("java/util/HashMap"));
+        assertFalse(filter.selectsClass("java/util/LinkedHashMap"));
+        assertTrue(filter.selectsMethod("<init>", "(I)V"));
+        assertTrue(filter.selectsMethod("run", "()V"));
+        assertFalse(filter.selectsMethod("run", "()I"));
+        assertFalse(filter.selectsField("size", "I"));
+        assertTrue(new MemberFilter().selectsField("size", "I"));
+    }
+
+    @Test
+    public void globsFollowIncludeSyntax() {
+        // '*' doesn't match '/' while '**' does, as in the -include and -exclude globs
+        MemberFilter filter = new MemberFilter().addClass("java.util.*").addMethod("{get,set}[A-Z]*:(**)V");
+        assertTrue(filter.selectsClass("java/util/HashMap"));
+        assertFalse(filter.selectsClass("java/util/concurrent/ConcurrentHashMap"));
+        assertTrue(new MemberFilter().addClass("java.**").selectsClass("java/util/concurrent/ConcurrentHashMap"));
+        assertTrue(filter.selectsMethod("setName", "(Ljava/lang/String;)V"));
+        assertFalse(filter.selectsMethod("settle", "()V"));
+        assertFalse(new MemberFilter().addMethod("*:(*)V").selectsMethod("setName", "(Ljava/lang/String;)V"));
+        assertThrows(IllegalArgumentException.class, () -> ToolConfiguration.of("jdis", "-method", "{get"));
+    }
+
+    /**
+     * @return the declarations of the fields and methods without modifiers: Method name:"descriptor"
+     */
+    private static List<String> members(String text) {
+        Matcher matcher = MEMBER.matcher(text);
+        List<String> members = new ArrayList<>();
+        while (matcher.find()) {
+            members.add(matcher.group(1).replaceAll("\\s+", " "));
+        }
+        return members;
+    }
+
+    private static String disassemble(String... options) throws IOException {
+        return ToolConfigurationHelper.disassemble(readClass(ConstantPool.class), options);
+    }
+}
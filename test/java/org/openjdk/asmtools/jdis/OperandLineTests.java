@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringTokenizer;
+
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.openjdk.asmtools.jdis.Indenter.ARGUMENT_DELIMITER;
+import static org.openjdk.asmtools.jdis.Indenter.LINE_SPLITTER;
+
+/**
+ * Indenter.formatOperandLine breaks the operand lines of invokedynamic and dynamic constants as the former
+ * StringTokenizer-based implementation did.
+ */
+public class OperandLineTests {
+
+    private static final int OFFSET = 2;
+    private static final String PREFIX = "//";
+
+    private final Indenter indenter = new Indenter() {
+    };
+
+    @Test
+    public void breakPositions() {
+        assertEquals("a:b:" + nl(0) + "c:" + nl(0) + "d",
+                format("a:b:c:d", Indenter.InvokeDynamicBreakPositions));
+        // the items are counted again on every level
+        assertEquals("a {" + nl(1) + "b:c:d:" + nl(1) + "e" + nl(0) + "}",
+                format("a{b:c:d:e}", Indenter.InvokeDynamicBreakPositions));
+    }
+
+    @Test
+    public void nestedLevels() {
+        assertEquals("m {" + nl(1) + "x," + nl(1) + "y {" + nl(2) + "z" + nl(1) + "}" + nl(0) + "}",
+                format("m{x" + ARGUMENT_DELIMITER + "y{z}}", Map.of()));
+        // an unbalanced } doesn't go below the level 0
+        assertEquals("a" + nl(0) + "}" + nl(0) + "}b", format("a}}b", Map.of()));
+    }
+
+    @Test
+    public void quotedStrings() {
+        // within the quotes, the escaped quote, the braces, ':' and the markers are copied,
+        // LINE_SPLITTER is copied as ARGUMENT_DELIMITER
+        String quoted = "\"q\\\"{" + ARGUMENT_DELIMITER + LINE_SPLITTER + "}:\"";
+        assertEquals("s:" + nl(0) + "\"q\\\"{" + ARGUMENT_DELIMITER + ARGUMENT_DELIMITER + "}:\"," + nl(0) + "t",
+                format("s:" + quoted + ARGUMENT_DELIMITER + "t", Map.of(0, List.of(1))));
+    }
+
+    @Test
+    public void markers() {
+        assertEquals("a," + nl(0) + "b" + nl(0) + "c",
+                format("a" + ARGUMENT_DELIMITER + "b" + LINE_SPLITTER + "c", Map.of()));
+    }
+
+    @Test
+    public void emptyArguments() {
+        // {} isn't broken, and the placeholder <!> is printed as {} if the line has {}
+        assertEquals("b{}:" + nl(0) + "c{}", format("b{}:c<!>", Map.of(0, List.of(1))));
+        assertEquals("c<!> {" + nl(1) + "d" + nl(0) + "}", format("c<!>{d}", Map.of()));
+        assertEquals("\"{}\"{}", format("\"<!>\"{}", Map.of()));
+    }
+
+    @Test
+    public void sameAsTokenizer() {
+        String[] pieces = {"a", "bc", ":", "{", "}", "{}", "\"", "\\", "<!>", "<", "!>", " ",
+                ARGUMENT_DELIMITER, LINE_SPLITTER};
+        List<Map<Integer, List<Integer>>> breakPositions = List.of(Map.of(),
+                Indenter.InvokeDynamicBreakPositions, Indenter.LdwBreakPositions,
+                Indenter.BootstrapMethodBreakPositions, Indenter.BootstrapArgumentsBreakPositions);
+        Random random = new Random(22);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int n = random.nextInt(24); n > 0; n--) {
+                sb.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String str = sb.toString();
+            Map<Integer, List<Integer>> breaks = breakPositions.get(random.nextInt(breakPositions.size()));
+            assertEquals(tokenize(str, breaks), format(str, breaks), str);
+        }
+    }
+
+    private String format(String str, Map<Integer, List<Integer>> breakPositions) {
+        return indenter.formatOperandLine(str, OFFSET, PREFIX, breakPositions);
+    }
+
+    // the line separator and the indent of the level
+    private static String nl(int level) {
+        return lineSeparator() + " ".repeat(OFFSET) + PREFIX + " ".repeat(Indenter.INDENT_STEP * level);
+    }
+
+    // the former implementation: the empty arguments are replaced by regex and the line is split by StringTokenizer
+    private static String tokenize(String str, Map<Integer, List<Integer>> breakPositions) {
+        boolean noArgs = str.contains(Indenter.NO_BSM_ARGUMENTS);
+        if (noArgs) {
+            str = str.replaceAll("\\{\\}", Indenter.REPLACEMENT_NO_BSM_ARGUMENTS);
+        }
+        StringTokenizer st = new StringTokenizer(str, ":\"{}\\" + ARGUMENT_DELIMITER + LINE_SPLITTER, true);
+        StringBuilder sb = new StringBuilder();
+        boolean processTokens = true;
+        String prevToken = "";
+        int nItems = 0, nLevel = 0;
+        while (st.hasMoreTokens()) {
+            String token = st.nextToken();
+            List<Integer> breaks = breakPositions.getOrDefault(nLevel, Collections.emptyList());
+            switch (token) {
+                case ":" -> {
+                    sb.append(token);
+                    if (processTokens) {
+                        nItems++;
+                        if (breaks.contains(nItems)) {
+                            sb.append(nl(nLevel));
+                        }
+                    }
+                }
+                case "}" -> {
+                    if (processTokens) {
+                        nLevel = (nLevel == 0) ? nLevel : nLevel - 1;
+                        nItems = 0;
+                        sb.append(nl(nLevel)).append(token);
+                    } else {
+                        sb.append(token);
+                    }
+                }
+                case "{" -> {
+                    if (processTokens) {
+                        nLevel++;
+                        nItems = 0;
+                        sb.append(" {").append(nl(nLevel));
+                    } else {
+                        sb.append(token);
+                    }
+                }
+                case "\"" -> {
+                    if (!prevToken.equals("\\")) {
+                        processTokens = !processTokens;
+                    }
+                    sb.append(token);
+                }
+                case ARGUMENT_DELIMITER -> {
+                    if (processTokens) {
+                        sb.append(',').append(nl(nLevel));
+                        nItems = 0;
+                    } else {
+                        sb.append(ARGUMENT_DELIMITER);
+                    }
+                }
+                case LINE_SPLITTER -> sb.append(processTokens ? nl(nLevel) : ARGUMENT_DELIMITER);
+                default -> sb.append(token);
+            }
+            prevToken = token;
+        }
+        str = sb.toString();
+        if (noArgs) {
+            str = str.replaceAll(Indenter.REPLACEMENT_NO_BSM_ARGUMENTS, Indenter.NO_BSM_ARGUMENTS);
+        }
+        return str;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+import org.openjdk.asmtools.common.inputs.ClassFileReader;
+import org.openjdk.asmtools.common.outputs.ByteOutput;
+import org.openjdk.asmtools.common.outputs.log.StringLog;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openjdk.asmtools.jdis.Options.PrintOption;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.readClass;
+
+/**
+ * The renderings of the constant pool entries are memoized while the class is printed.
+ */
+public class RenderingMemoTests {
+
+    @Test
+    public void counters() throws IOException {
+        ToolConfiguration.Result result = ToolConfiguration.of("jdis", "-t").
+                run(new ByteInput(readClass(CodeData.class)));
+        assertEquals(0, result.status(), result.log());
+        long hits = result.counters().get("renderings.CONSTANT_STR_VALUE.hits");
+        long misses = result.counters().get("renderings.CONSTANT_STR_VALUE.misses");
+        assertTrue(hits > 0 && misses > 0, result.counters().toString());
+        assertTrue(result.log().contains("CONSTANT_STR_VALUE %d/%d".formatted(hits, hits + misses)),
+                "the counters are traced");
+    }
+
+    @Test
+    public void sameOutputAsRendered() throws IOException, URISyntaxException {
+        byte[] classFile = readClass(CodeData.class);
+        Set<PrintOption> callerOptions = Options.snapshot();
+        try {
+            for (boolean detailed : new boolean[]{false, true}) {
+                Options.apply(callerOptions);
+                if (detailed) {
+                    Options.setDetailedOutputOptions();
+                }
+                assertEquals(print(classFile, false), print(classFile, true));
+            }
+        } finally {
+            Options.apply(callerOptions);
+        }
+    }
+
+    /**
+     * Prints the class as jdis does in the current thread
+     *
+     * @param memoizeRenderings false to render the constant pool entries every time they are printed
+     */
+    private static String print(byte[] classFile, boolean memoizeRenderings) throws IOException, URISyntaxException {
+        ByteOutput output = new ByteOutput();
+        JdisEnvironment environment = new JdisEnvironment.JdisBuilder(output, new StringLog()).build();
+        ByteInput input = new ByteInput(classFile);
+        environment.setToolInput(input);
+        ClassData classData = new ClassData(environment);
+        classData.setMemoizeRenderings(memoizeRenderings);
+        input.setDetailedInput(classData.isDetailedOutput());
+        classData.read(ClassFileReader.of(input, Optional.of(environment)), Paths.get(input.getName()));
+        output.startClass(classData.className, Optional.of(".jasm"), environment);
+        classData.print();
+        output.finishClass(classData.className);
+        // the misses are counted only while the renderings are memoized
+        assertEquals(memoizeRenderings,
+                classData.getConstantPool().getRenderingMisses(ConstantPool.Rendering.CLASS_NAME) > 0);
+        return new String(output.getOutputs().get(0).getBody());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.jdis;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.disassemble;
+import static org.openjdk.asmtools.lib.helper.ToolConfigurationHelper.readClass;
+
+/**
+ * The summary mode prints the class header, member headers and annotations only.
+ */
+public class SummaryTests {
+
+    @Test
+    public void membersAndAnnotations() throws IOException {
+        byte[] classFile = readClass(SummaryTests.class);
+        String full = disassemble(classFile);
+        String summary = disassemble(classFile, "-summary");
+        assertFalse(summary.contains("stack "), summary);
+        assertFalse(summary.contains("invokevirtual"), summary);
+        assertTrue(summary.contains("@+\"Lorg/junit/jupiter/api/Test;\""), summary);
+        assertEquals(declarations(full), declarations(summary));
+    }
+
+    @Test
+    public void noConstantPool() throws IOException {
+        String summary = disassemble(readClass(ConstantPool.class), "-summary", "-g");
+        assertFalse(summary.contains("#1 = "), summary);
+        assertTrue(summary.contains(" read:\"(Lorg/openjdk/asmtools/common/inputs/ClassFileReader;)"), summary);
+    }
+
+    private static List<String> declarations(String text) {
+        return text.lines().filter(line -> line.matches("^  (?:[a-z]+ )*(?:Field|Method) .*")).
+                map(line -> line.endsWith(";") ? line.substring(0, line.length() - 1) : line).toList();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.asmtools.lib.helper;
+
+import org.openjdk.asmtools.ToolConfiguration;
+import org.openjdk.asmtools.common.inputs.ByteInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs jdis in-process by {@link ToolConfiguration} on the class files of the test classpath.
+ */
+public final class ToolConfigurationHelper {
+
+    private ToolConfigurationHelper() {
+    }
+
+    /**
+     * @return the class file of the class
+     */
+    public static byte[] readClass(Class<?> clazz) throws IOException {
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Disassembles the class file, the run must succeed
+     *
+     * @return the jasm text or an empty string if no class is printed
+     */
+    public static String disassemble(byte[] classFile, String... options) {
+        ToolConfiguration.Result result = ToolConfiguration.of("jdis", options).run(new ByteInput(classFile));
+        assertEquals(0, result.status(), result.log());
+        return result.outputs().isEmpty() ? "" : new String(result.outputs().get(0).getBody());
+    }
+}